@@ -1,7 +1,9 @@
 package com.anthony.backend.application.mapper;
 
 import com.anthony.backend.controller.dto.response.AlbumImageDTO;
+import com.anthony.backend.controller.dto.response.ImageUploadTimingDTO;
 import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.model.ImageUploadTiming;
 import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,11 +14,15 @@ public interface AlbumImageMapper {
     AlbumImageEntity toEntity(AlbumImage albumImage);
     
     @Mapping(target = "album", ignore = true)
+    @Mapping(target = "renditionUrls", ignore = true)
     AlbumImage toDomain(AlbumImageEntity entity);
 
     @Mapping(target = "id", source = "id")
     @Mapping(target = "fileKey", source = "fileKey")
     @Mapping(target = "fileUrl", source = "fileUrl")
     @Mapping(target = "isDefault", source = "isDefault")
+    @Mapping(target = "renditionUrls", source = "renditionUrls")
     AlbumImageDTO toDTO(AlbumImage albumImage);
+
+    ImageUploadTimingDTO toTimingDTO(ImageUploadTiming timing);
 }
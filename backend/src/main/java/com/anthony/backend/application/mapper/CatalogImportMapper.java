@@ -0,0 +1,15 @@
+package com.anthony.backend.application.mapper;
+
+import com.anthony.backend.controller.dto.response.CatalogImportErrorDTO;
+import com.anthony.backend.controller.dto.response.CatalogImportResponseDTO;
+import com.anthony.backend.domain.model.CatalogImportError;
+import com.anthony.backend.domain.model.CatalogImportResult;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface CatalogImportMapper {
+
+    CatalogImportResponseDTO toResponseDTO(CatalogImportResult result);
+
+    CatalogImportErrorDTO toErrorDTO(CatalogImportError error);
+}
@@ -0,0 +1,18 @@
+package com.anthony.backend.application.pagination;
+
+import com.anthony.backend.domain.exception.InvalidCountModeExceptionHandler;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static CountMode from(String value) {
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new InvalidCountModeExceptionHandler(value);
+    }
+}
@@ -0,0 +1,54 @@
+package com.anthony.backend.application.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CountedPage<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final Long totalElements;
+    private final boolean totalExact;
+    private final boolean hasNext;
+
+    public Integer getTotalPages() {
+        if (totalElements == null) {
+            return null;
+        }
+        return size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+    }
+
+    public <R> CountedPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CountedPage<>(converted, page, size, totalElements, totalExact, hasNext);
+    }
+
+    public static <T> CountedPage<T> exact(Page<T> page) {
+        return new CountedPage<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), true, page.hasNext());
+    }
+
+    public static <T> CountedPage<T> withoutTotal(Slice<T> slice) {
+        return new CountedPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), null, false, slice.hasNext());
+    }
+
+    public static <T> CountedPage<T> estimated(Slice<T> slice, long estimate) {
+        long offset = (long) slice.getNumber() * slice.getSize();
+        long seen = offset + slice.getNumberOfElements();
+
+        // Na última página o total é conhecido sem contagem; nas demais a estimativa nunca fica abaixo do já visto
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            return new CountedPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), seen, true, false);
+        }
+        long total = Math.max(estimate, slice.hasNext() ? seen + 1 : seen);
+        return new CountedPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), total, false, slice.hasNext());
+    }
+}
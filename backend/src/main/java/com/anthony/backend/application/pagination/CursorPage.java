@@ -0,0 +1,103 @@
+package com.anthony.backend.application.pagination;
+
+import com.anthony.backend.domain.exception.InvalidCursorExceptionHandler;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final String previousCursor;
+    private final Long totalElements;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorPage<>(converted, size, nextCursor, previousCursor, totalElements);
+    }
+
+    public static <T> CursorPage<T> of(Window<T> window, CursorRequest request,
+                                       Function<T, KeysetCursor> cursorOf, Long totalElements) {
+        List<T> content = window.getContent();
+        boolean backward = request.getBefore() != null;
+        boolean hasNext = backward || window.hasNext();
+        boolean hasPrevious = backward ? window.hasNext() : request.getAfter() != null;
+
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        String previousCursor = hasPrevious && !content.isEmpty() ? cursorOf.apply(content.get(0)).encode() : null;
+
+        return new CursorPage<>(content, request.getSize(), nextCursor, previousCursor, totalElements);
+    }
+
+    @Getter
+    public static class CursorRequest {
+
+        private final String sortBy;
+        private final Sort.Direction direction;
+        private final KeysetCursor after;
+        private final KeysetCursor before;
+        private final int size;
+
+        private CursorRequest(String sortBy, Sort.Direction direction, KeysetCursor after, KeysetCursor before, int size) {
+            this.sortBy = sortBy;
+            this.direction = direction;
+            this.after = after;
+            this.before = before;
+            this.size = size;
+        }
+
+        public static CursorRequest of(String sortBy, Sort.Direction direction, String after, String before,
+                                       int size, Set<String> allowedSortFields) {
+            if (!allowedSortFields.contains(sortBy)) {
+                throw new InvalidCursorExceptionHandler(String.format(
+                        "Ordenação por '%s' não suportada na paginação por cursor. Use: %s", sortBy, allowedSortFields));
+            }
+            if (after != null && before != null) {
+                throw new InvalidCursorExceptionHandler("Informe apenas um dos parâmetros 'after' ou 'before'");
+            }
+            if (size < 1) {
+                throw new InvalidCursorExceptionHandler("O tamanho da página deve ser maior que zero");
+            }
+
+            return new CursorRequest(
+                    sortBy,
+                    direction,
+                    after != null ? KeysetCursor.decode(after, sortBy) : null,
+                    before != null ? KeysetCursor.decode(before, sortBy) : null,
+                    size);
+        }
+
+        public Sort toSort() {
+            Sort sort = Sort.by(direction, sortBy);
+            return "id".equals(sortBy) ? sort : sort.and(Sort.by(direction, "id"));
+        }
+
+        public ScrollPosition toScrollPosition() {
+            if (after != null) {
+                return ScrollPosition.forward(after.toKeys());
+            }
+            if (before != null) {
+                return ScrollPosition.backward(before.toKeys());
+            }
+            return ScrollPosition.keyset();
+        }
+    }
+}
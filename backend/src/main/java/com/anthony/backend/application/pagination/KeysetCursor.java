@@ -0,0 +1,65 @@
+package com.anthony.backend.application.pagination;
+
+import com.anthony.backend.domain.exception.InvalidCursorExceptionHandler;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class KeysetCursor {
+
+    private static final String ID_FIELD = "id";
+    private static final String SEPARATOR = "\n";
+
+    private final String sortBy;
+    private final Long id;
+    private final String sortValue;
+
+    public KeysetCursor(String sortBy, Long id, String sortValue) {
+        this.sortBy = sortBy;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+
+    public static KeysetCursor of(String sortBy, Long id, String sortValue) {
+        return new KeysetCursor(sortBy, id, ID_FIELD.equals(sortBy) ? null : sortValue);
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + id + (sortValue != null ? SEPARATOR + sortValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token, String expectedSortBy) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split(SEPARATOR, 3);
+            Long.parseLong(parts[1]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorExceptionHandler("Cursor de paginação inválido", e);
+        }
+
+        if (!parts[0].equals(expectedSortBy)) {
+            throw new InvalidCursorExceptionHandler(String.format(
+                    "Cursor gerado para ordenação por '%s' não pode ser usado com ordenação por '%s'", parts[0], expectedSortBy));
+        }
+        if (!ID_FIELD.equals(expectedSortBy) && parts.length < 3) {
+            throw new InvalidCursorExceptionHandler("Cursor de paginação inválido");
+        }
+
+        return of(parts[0], Long.parseLong(parts[1]), parts.length == 3 ? parts[2] : null);
+    }
+
+    public Map<String, Object> toKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (!ID_FIELD.equals(sortBy)) {
+            keys.put(sortBy, sortValue);
+        }
+        keys.put(ID_FIELD, id);
+        return keys;
+    }
+}
@@ -1,64 +1,149 @@
 package com.anthony.backend.application.service;
 
 import com.anthony.backend.domain.exception.InvalidFileException;
+import com.anthony.backend.domain.exception.StorageExceptionHandler;
 import com.anthony.backend.domain.model.Album;
 import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.model.AlbumImageUploadResult;
+import com.anthony.backend.domain.model.ImageUploadTiming;
 import com.anthony.backend.domain.repository.AlbumImageRepository;
+import com.anthony.backend.infrastructure.storage.ImageRenditionService;
 import com.anthony.backend.infrastructure.storage.MinioStorageService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class AlbumImageService {
 
     private final AlbumImageRepository albumImageRepository;
     private final AlbumService albumService;
     private final MinioStorageService minioStorageService;
+    private final Executor imageUploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageRenditionService imageRenditionService;
+    private final WebSocketNotificationService notificationService;
+    private final AlbumImageUrlService albumImageUrlService;
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png");
 
-    @Transactional
-    public List<AlbumImage> uploadImages(Long albumId, MultipartFile[] files, Boolean setAsDefault) {
-        Album album = albumService.findById(albumId);
-        List<AlbumImage> uploadedImages = new ArrayList<>();
+    public AlbumImageService(AlbumImageRepository albumImageRepository,
+                             AlbumService albumService,
+                             MinioStorageService minioStorageService,
+                             @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                             TransactionTemplate transactionTemplate,
+                             ImageRenditionService imageRenditionService,
+                             WebSocketNotificationService notificationService,
+                             AlbumImageUrlService albumImageUrlService) {
+        this.albumImageRepository = albumImageRepository;
+        this.albumService = albumService;
+        this.minioStorageService = minioStorageService;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.imageRenditionService = imageRenditionService;
+        this.notificationService = notificationService;
+        this.albumImageUrlService = albumImageUrlService;
+    }
 
+    // Os envios ao MinIO acontecem fora de transação para não segurar uma conexão do banco durante o upload
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AlbumImageUploadResult uploadImages(Long albumId, MultipartFile[] files, Boolean setAsDefault) {
         for (MultipartFile file : files) {
             validateFileExtension(file);
         }
 
-        if (Boolean.TRUE.equals(setAsDefault)) {
-            albumImageRepository.updateIsDefaultByAlbumId(albumId, false);
-        }
+        Album album = albumService.findById(albumId);
+        long start = System.nanoTime();
 
-        for (int i = 0; i < files.length; i++) {
-            MultipartFile file = files[i];
+        List<ImageUploadTiming> timings = uploadToStorage(files, albumId);
 
-            String fileKey = minioStorageService.uploadFile(file, albumId);
+        List<AlbumImage> images = new ArrayList<>();
+        for (int i = 0; i < timings.size(); i++) {
+            images.add(AlbumImage.builder()
+                    .fileKey(timings.get(i).getFileKey())
+                    .isDefault(Boolean.TRUE.equals(setAsDefault) && i == 0)
+                    .album(album)
+                    .build());
+        }
 
-            boolean isDefault = Boolean.TRUE.equals(setAsDefault) && i == 0;
+        List<AlbumImage> savedImages;
+        try {
+            savedImages = transactionTemplate.execute(status -> {
+                if (Boolean.TRUE.equals(setAsDefault)) {
+                    albumImageRepository.updateIsDefaultByAlbumId(albumId, false);
+                }
+                List<AlbumImage> saved = albumImageRepository.saveAll(images);
+                notificationService.notifyAlbumImagesUpdated(albumId);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            deleteUploadedFiles(timings);
+            throw e;
+        }
 
-            AlbumImage albumImage = AlbumImage.builder()
-                    .fileKey(fileKey)
-                    .isDefault(isDefault)
-                    .album(album)
-                    .build();
+        albumImageUrlService.populateUrls(savedImages, null);
+        imageRenditionService.generateAsync(savedImages.stream().map(AlbumImage::getFileKey).toList());
 
-            AlbumImage savedImage = albumImageRepository.save(albumImage);
-            String presignedUrl = minioStorageService.getPresignedUrl(savedImage.getFileKey());
-            savedImage.setFileUrl(presignedUrl);
+        return AlbumImageUploadResult.builder()
+                .images(savedImages)
+                .timings(timings)
+                .totalDurationMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
 
-            uploadedImages.add(savedImage);
+    private List<ImageUploadTiming> uploadToStorage(MultipartFile[] files, Long albumId) {
+        List<CompletableFuture<ImageUploadTiming>> uploads = Arrays.stream(files)
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadTimed(file, albumId), imageUploadExecutor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            deleteUploadedFiles(uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .toList());
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new StorageExceptionHandler("Erro ao fazer upload do arquivo", e.getCause());
         }
 
-        return uploadedImages;
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    private ImageUploadTiming uploadTimed(MultipartFile file, Long albumId) {
+        long start = System.nanoTime();
+        String fileKey = minioStorageService.uploadFile(file, albumId);
+        return ImageUploadTiming.builder()
+                .originalFilename(file.getOriginalFilename())
+                .fileKey(fileKey)
+                .sizeBytes(file.getSize())
+                .durationMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    private void deleteUploadedFiles(List<ImageUploadTiming> uploaded) {
+        for (ImageUploadTiming upload : uploaded) {
+            try {
+                minioStorageService.deleteFile(upload.getFileKey());
+            } catch (StorageExceptionHandler e) {
+                log.warn("Não foi possível remover o arquivo órfão {} do storage", upload.getFileKey(), e);
+            }
+        }
     }
 
     private void validateFileExtension(MultipartFile file) {
@@ -83,24 +168,19 @@ public class AlbumImageService {
         return filename.substring(lastDotIndex + 1);
     }
 
-    public List<AlbumImage> getAlbumImages(Long albumId) {
+    public List<AlbumImage> getAlbumImages(Long albumId, Integer size) {
+        imageRenditionService.validateSize(size);
         List<AlbumImage> images = albumImageRepository.findByAlbumId(albumId);
-
-        images.forEach(image -> {
-            String presignedUrl = minioStorageService.getPresignedUrl(image.getFileKey());
-            image.setFileUrl(presignedUrl);
-        });
-
+        albumImageUrlService.populateUrls(images, size);
         return images;
     }
 
-    public AlbumImage getImageById(Long id) {
+    public AlbumImage getImageById(Long id, Integer size) {
+        imageRenditionService.validateSize(size);
         AlbumImage image = albumImageRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Imagem não encontrada"));
 
-        String presignedUrl = minioStorageService.getPresignedUrl(image.getFileKey());
-        image.setFileUrl(presignedUrl);
-
+        albumImageUrlService.populateUrls(List.of(image), size);
         return image;
     }
 
@@ -110,27 +190,31 @@ public class AlbumImageService {
                 .orElseThrow(() -> new RuntimeException("Imagem não encontrada"));
 
         minioStorageService.deleteFile(image.getFileKey());
+        if (Boolean.TRUE.equals(image.getRenditionsReady())) {
+            imageRenditionService.deleteRenditions(image.getFileKey());
+        }
 
+        albumImageRepository.findAlbumIdById(id).ifPresent(notificationService::notifyAlbumImagesUpdated);
         albumImageRepository.deleteById(id);
     }
 
     @Transactional
     public AlbumImage setAsDefault(Long albumId, Long imageId) {
-        albumImageRepository.updateIsDefaultByAlbumId(albumId, false);
-
         AlbumImage image = albumImageRepository.findById(imageId)
                 .orElseThrow(() -> new RuntimeException("Imagem não encontrada"));
 
-        if (!image.getAlbum().getId().equals(albumId)) {
+        // Limpa todas as imagens do álbum (não só a padrão atual) para bloquear as linhas e serializar trocas concorrentes.
+        // O UPDATE de marcação filtra pelo álbum, então não afeta linhas quando a imagem pertence a outro álbum.
+        albumImageRepository.updateIsDefaultByAlbumId(albumId, false);
+        if (!albumImageRepository.markAsDefault(albumId, imageId)) {
             throw new RuntimeException("Imagem não pertence a este álbum");
         }
 
-        image.setIsDefault(true);
-        AlbumImage savedImage = albumImageRepository.save(image);
+        notificationService.notifyAlbumImagesUpdated(albumId);
 
-        String presignedUrl = minioStorageService.getPresignedUrl(savedImage.getFileKey());
-        savedImage.setFileUrl(presignedUrl);
+        image.setIsDefault(true);
+        image.setFileUrl(minioStorageService.getPresignedUrl(image.getFileKey()));
 
-        return savedImage;
+        return image;
     }
 }
@@ -0,0 +1,61 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.infrastructure.storage.ImageRenditionService;
+import com.anthony.backend.infrastructure.storage.MinioStorageService;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Assina originais e miniaturas de várias imagens em uma única chamada ao storage
+@Service
+public class AlbumImageUrlService {
+
+    private final MinioStorageService minioStorageService;
+    private final ImageRenditionService imageRenditionService;
+
+    public AlbumImageUrlService(MinioStorageService minioStorageService, ImageRenditionService imageRenditionService) {
+        this.minioStorageService = minioStorageService;
+        this.imageRenditionService = imageRenditionService;
+    }
+
+    public void validateSize(Integer size) {
+        imageRenditionService.validateSize(size);
+    }
+
+    // Sem miniaturas prontas a URL principal continua sendo a do original, mesmo quando um tamanho é pedido
+    public void populateUrls(Collection<AlbumImage> images, Integer size) {
+        if (images.isEmpty()) {
+            return;
+        }
+
+        Set<String> fileKeys = new HashSet<>();
+        for (AlbumImage image : images) {
+            fileKeys.add(image.getFileKey());
+            if (Boolean.TRUE.equals(image.getRenditionsReady())) {
+                imageRenditionService.getSizes().forEach(renditionSize ->
+                        fileKeys.add(ImageRenditionService.renditionKey(image.getFileKey(), renditionSize)));
+            }
+        }
+
+        Map<String, String> presignedUrls = minioStorageService.getPresignedUrls(fileKeys);
+        for (AlbumImage image : images) {
+            image.setFileUrl(presignedUrls.get(image.getFileKey()));
+            if (!Boolean.TRUE.equals(image.getRenditionsReady())) {
+                continue;
+            }
+
+            Map<Integer, String> renditionUrls = new LinkedHashMap<>();
+            imageRenditionService.getSizes().forEach(renditionSize -> renditionUrls.put(renditionSize,
+                    presignedUrls.get(ImageRenditionService.renditionKey(image.getFileKey(), renditionSize))));
+            image.setRenditionUrls(renditionUrls);
+            if (size != null) {
+                image.setFileUrl(renditionUrls.get(size));
+            }
+        }
+    }
+}
@@ -1,45 +1,65 @@
 package com.anthony.backend.application.service;
 
 import com.anthony.backend.application.mapper.AlbumMapper;
+import com.anthony.backend.application.pagination.CountMode;
+import com.anthony.backend.application.pagination.CountedPage;
+import com.anthony.backend.application.pagination.CursorPage;
+import com.anthony.backend.application.pagination.CursorPage.CursorRequest;
+import com.anthony.backend.application.pagination.KeysetCursor;
 import com.anthony.backend.domain.exception.ResourceNotFoundExceptionHandler;
 import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.domain.model.AlbumImage;
 import com.anthony.backend.domain.model.Artist;
 import com.anthony.backend.domain.repository.AlbumRepository;
 import com.anthony.backend.domain.repository.ArtistRepository;
 import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
 import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
-import com.anthony.backend.infrastructure.storage.MinioStorageService;
+import com.anthony.backend.infrastructure.persistence.jpa.LikePatterns;
+import com.anthony.backend.infrastructure.persistence.repository.RowCountEstimator;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class AlbumService {
 
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final AlbumRepository albumRepository;
     private final ArtistRepository artistRepository;
     private final AlbumJpaRepository albumJpaRepository;
     private final AlbumMapper albumMapper;
-    private final MinioStorageService minioStorageService;
+    private final AlbumImageUrlService albumImageUrlService;
+    private final RowCountEstimator rowCountEstimator;
+    private final WebSocketNotificationService notificationService;
 
     public AlbumService(AlbumRepository albumRepository,
                         ArtistRepository artistRepository,
                         AlbumJpaRepository albumJpaRepository,
                         AlbumMapper albumMapper,
-                        MinioStorageService minioStorageService) {
+                        AlbumImageUrlService albumImageUrlService,
+                        RowCountEstimator rowCountEstimator,
+                        WebSocketNotificationService notificationService) {
         this.albumRepository = albumRepository;
         this.artistRepository = artistRepository;
         this.albumJpaRepository = albumJpaRepository;
         this.albumMapper = albumMapper;
-        this.minioStorageService = minioStorageService;
+        this.albumImageUrlService = albumImageUrlService;
+        this.rowCountEstimator = rowCountEstimator;
+        this.notificationService = notificationService;
     }
 
     @Transactional
@@ -53,24 +73,117 @@ public class AlbumService {
 
         artist.addAlbum(album);
 
-        return albumRepository.save(album);
+        Album saved = albumRepository.save(album);
+        notificationService.notifyAlbumCreated(saved);
+        return saved;
     }
 
     public Album findById(Long id) {
+        return findById(id, null);
+    }
+
+    // imageSize escolhe a miniatura usada como fileUrl da imagem padrão; sem valor retorna o original
+    public Album findById(Long id, Integer imageSize) {
+        albumImageUrlService.validateSize(imageSize);
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundExceptionHandler("Álbum", id));
-        populateImageUrls(album);
+        populateImageUrls(List.of(album), imageSize);
         return album;
     }
 
     public Page<Album> findAll(String title, String artistName, Long artistId, Pageable pageable) {
-        Specification<AlbumEntity> spec = (root, query, criteriaBuilder) -> {
+        return findPage(title, artistName, artistId, pageable, null);
+    }
+
+    private Page<Album> findPage(String title, String artistName, Long artistId, Pageable pageable, Integer imageSize) {
+        Specification<AlbumEntity> spec = buildSpecification(title, artistName, artistId);
+
+        Page<AlbumEntity> entities = albumJpaRepository.findAll(spec, pageable);
+        Map<Long, AlbumEntity> fetched = fetchArtistAndImages(entities.getContent());
+
+        Page<Album> albums = entities.map(entity -> albumMapper.toDomain(fetched.getOrDefault(entity.getId(), entity)));
+        populateImageUrls(albums.getContent(), imageSize);
+        return albums;
+    }
+
+    public CountedPage<Album> findAll(String title, String artistName, Long artistId, Pageable pageable, CountMode countMode) {
+        return findAll(title, artistName, artistId, pageable, countMode, null);
+    }
+
+    public CountedPage<Album> findAll(String title, String artistName, Long artistId, Pageable pageable,
+                                      CountMode countMode, Integer imageSize) {
+        albumImageUrlService.validateSize(imageSize);
+        if (countMode == CountMode.EXACT) {
+            return CountedPage.exact(findPage(title, artistName, artistId, pageable, imageSize));
+        }
+
+        Specification<AlbumEntity> spec = buildSpecification(title, artistName, artistId);
+        Slice<AlbumEntity> entities = albumJpaRepository.findBy(spec, query -> query.slice(pageable));
+        Map<Long, AlbumEntity> fetched = fetchArtistAndImages(entities.getContent());
+
+        CountedPage<AlbumEntity> page = countMode == CountMode.ESTIMATE
+                ? CountedPage.estimated(entities, estimateCount(title, artistName, artistId, spec))
+                : CountedPage.withoutTotal(entities);
+        CountedPage<Album> albums = page.map(entity -> albumMapper.toDomain(fetched.getOrDefault(entity.getId(), entity)));
+        populateImageUrls(albums.getContent(), imageSize);
+        return albums;
+    }
+
+    public CursorPage<Album> findAllByCursor(String title, String artistName, Long artistId,
+                                             CursorRequest request, boolean includeTotal) {
+        return findAllByCursor(title, artistName, artistId, request, includeTotal, null);
+    }
+
+    public CursorPage<Album> findAllByCursor(String title, String artistName, Long artistId,
+                                             CursorRequest request, boolean includeTotal, Integer imageSize) {
+        albumImageUrlService.validateSize(imageSize);
+        Specification<AlbumEntity> spec = buildSpecification(title, artistName, artistId);
+
+        Window<AlbumEntity> window = albumJpaRepository.findBy(spec, query -> query
+                .sortBy(request.toSort())
+                .limit(request.getSize())
+                .scroll(request.toScrollPosition()));
+        Long totalElements = includeTotal ? albumJpaRepository.count(spec) : null;
+
+        Map<Long, AlbumEntity> fetched = fetchArtistAndImages(window.getContent());
+        CursorPage<Album> albums = CursorPage.of(window, request,
+                        entity -> KeysetCursor.of(request.getSortBy(), entity.getId(), entity.getTitle()),
+                        totalElements)
+                .map(entity -> albumMapper.toDomain(fetched.getOrDefault(entity.getId(), entity)));
+        populateImageUrls(albums.getContent(), imageSize);
+        return albums;
+    }
+
+    public List<Album> search(String term, int limit) {
+        return search(term, limit, null);
+    }
+
+    public List<Album> search(String term, int limit, Integer imageSize) {
+        albumImageUrlService.validateSize(imageSize);
+        if (term == null || term.isBlank()) {
+            return List.of();
+        }
+
+        String trimmed = term.trim();
+        List<AlbumEntity> ranked = albumJpaRepository.searchByTitle(trimmed, LikePatterns.contains(trimmed), Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
+        Map<Long, AlbumEntity> fetched = fetchArtistAndImages(ranked);
+
+        List<Album> albums = ranked.stream()
+                .map(entity -> albumMapper.toDomain(fetched.getOrDefault(entity.getId(), entity)))
+                .toList();
+        populateImageUrls(albums, imageSize);
+        return albums;
+    }
+
+    private Specification<AlbumEntity> buildSpecification(String title, String artistName, Long artistId) {
+        return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (title != null && !title.isBlank()) {
                 predicates.add(criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("title")),
-                        "%" + title.toLowerCase() + "%"
+                        LikePatterns.contains(title.toLowerCase()),
+                        LikePatterns.ESCAPE
                 ));
             }
 
@@ -78,7 +191,8 @@ public class AlbumService {
                 Join<Object, Object> artistJoin = root.join("artist");
                 predicates.add(criteriaBuilder.like(
                         criteriaBuilder.lower(artistJoin.get("name")),
-                        "%" + artistName.toLowerCase() + "%"
+                        LikePatterns.contains(artistName.toLowerCase()),
+                        LikePatterns.ESCAPE
                 ));
             }
 
@@ -89,13 +203,33 @@ public class AlbumService {
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
+    }
 
-        return albumJpaRepository.findAll(spec, pageable)
-                .map(entity -> {
-                    Album album = albumMapper.toDomain(entity);
-                    populateImageUrls(album);
-                    return album;
-                });
+    private long estimateCount(String title, String artistName, Long artistId, Specification<AlbumEntity> spec) {
+        if (isBlank(title) && isBlank(artistName) && artistId == null) {
+            return rowCountEstimator.estimateTable("album", albumJpaRepository::count);
+        }
+
+        String key = String.join("|", "album", normalize(title), normalize(artistName), String.valueOf(artistId));
+        return rowCountEstimator.estimate(key, () -> albumJpaRepository.count(spec));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String normalize(String value) {
+        return isBlank(value) ? "" : value.toLowerCase();
+    }
+
+    private Map<Long, AlbumEntity> fetchArtistAndImages(List<AlbumEntity> entities) {
+        if (entities.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = entities.stream().map(AlbumEntity::getId).toList();
+        return albumJpaRepository.findWithArtistAndImagesByIdIn(ids).stream()
+                .collect(Collectors.toMap(AlbumEntity::getId, Function.identity()));
     }
 
     @Transactional
@@ -117,7 +251,9 @@ public class AlbumService {
             newArtist.addAlbum(album);
         }
 
-        return albumRepository.save(album);
+        Album saved = albumRepository.save(album);
+        notificationService.notifyAlbumUpdated(saved);
+        return saved;
     }
 
     @Transactional
@@ -125,6 +261,9 @@ public class AlbumService {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundExceptionHandler("Álbum", id));
 
+        // Registrado antes de desvincular o artista para que o evento ainda carregue seus dados
+        notificationService.notifyAlbumDeleted(album);
+
         Artist artist = album.getArtist();
         if (artist != null) {
             artist.removeAlbum(album);
@@ -133,14 +272,14 @@ public class AlbumService {
         albumRepository.deleteById(id);
     }
 
-    private void populateImageUrls(Album album) {
-        if (album.getImages() != null && !album.getImages().isEmpty()) {
-            album.getImages().forEach(image -> {
-                if (Boolean.TRUE.equals(image.getIsDefault())) {
-                    String presignedUrl = minioStorageService.getPresignedUrl(image.getFileKey());
-                    image.setFileUrl(presignedUrl);
-                }
-            });
-        }
+    // Só a imagem padrão (capa) é assinada nas listagens, com originais e miniaturas em uma única chamada ao storage
+    private void populateImageUrls(List<Album> albums, Integer imageSize) {
+        List<AlbumImage> defaultImages = albums.stream()
+                .filter(album -> album.getImages() != null)
+                .flatMap(album -> album.getImages().stream())
+                .filter(image -> Boolean.TRUE.equals(image.getIsDefault()))
+                .toList();
+
+        albumImageUrlService.populateUrls(defaultImages, imageSize);
     }
 }
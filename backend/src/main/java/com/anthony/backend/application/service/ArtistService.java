@@ -1,6 +1,11 @@
 package com.anthony.backend.application.service;
 
 import com.anthony.backend.application.mapper.ArtistMapper;
+import com.anthony.backend.application.pagination.CountMode;
+import com.anthony.backend.application.pagination.CountedPage;
+import com.anthony.backend.application.pagination.CursorPage;
+import com.anthony.backend.application.pagination.CursorPage.CursorRequest;
+import com.anthony.backend.application.pagination.KeysetCursor;
 import com.anthony.backend.domain.exception.DuplicateResourceExceptionHandler;
 import com.anthony.backend.domain.exception.ResourceConflictExceptionHandler;
 import com.anthony.backend.domain.exception.ResourceNotFoundExceptionHandler;
@@ -8,31 +13,43 @@ import com.anthony.backend.domain.model.Artist;
 import com.anthony.backend.domain.repository.ArtistRepository;
 import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
 import com.anthony.backend.infrastructure.persistence.jpa.ArtistJpaRepository;
+import com.anthony.backend.infrastructure.persistence.jpa.LikePatterns;
+import com.anthony.backend.infrastructure.persistence.repository.RowCountEstimator;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class ArtistService {
 
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final ArtistRepository artistRepository;
     private final ArtistJpaRepository artistJpaRepository;
     private final ArtistMapper artistMapper;
+    private final RowCountEstimator rowCountEstimator;
 
     public ArtistService(ArtistRepository artistRepository,
                          ArtistJpaRepository artistJpaRepository,
-                         ArtistMapper artistMapper) {
+                         ArtistMapper artistMapper,
+                         RowCountEstimator rowCountEstimator) {
         this.artistRepository = artistRepository;
         this.artistJpaRepository = artistJpaRepository;
         this.artistMapper = artistMapper;
+        this.rowCountEstimator = rowCountEstimator;
     }
 
     @Transactional
@@ -53,29 +70,127 @@ public class ArtistService {
     }
 
     public Page<Artist> findAll(String name, String albumTitle, boolean includeAlbums, Pageable pageable) {
-        Specification<ArtistEntity> spec = (root, query, criteriaBuilder) -> {
+        Specification<ArtistEntity> spec = buildSpecification(name, albumTitle);
+
+        Page<ArtistEntity> entities = artistJpaRepository.findAll(spec, pageable);
+        if (!includeAlbums) {
+            return entities.map(artistMapper::toDomain);
+        }
+
+        Map<Long, ArtistEntity> fetched = fetchAlbumsAndImages(entities.getContent());
+        return entities.map(entity -> artistMapper.toDomainWithAlbums(fetched.getOrDefault(entity.getId(), entity)));
+    }
+
+    public CountedPage<Artist> findAll(String name, String albumTitle, boolean includeAlbums, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return CountedPage.exact(findAll(name, albumTitle, includeAlbums, pageable));
+        }
+
+        Specification<ArtistEntity> spec = buildSpecification(name, albumTitle);
+        Slice<ArtistEntity> entities = artistJpaRepository.findBy(spec, query -> query.slice(pageable));
+
+        CountedPage<ArtistEntity> page = countMode == CountMode.ESTIMATE
+                ? CountedPage.estimated(entities, estimateCount(name, albumTitle, spec))
+                : CountedPage.withoutTotal(entities);
+        if (!includeAlbums) {
+            return page.map(artistMapper::toDomain);
+        }
+
+        Map<Long, ArtistEntity> fetched = fetchAlbumsAndImages(page.getContent());
+        return page.map(entity -> artistMapper.toDomainWithAlbums(fetched.getOrDefault(entity.getId(), entity)));
+    }
+
+    public CursorPage<Artist> findAllByCursor(String name, String albumTitle, boolean includeAlbums,
+                                              CursorRequest request, boolean includeTotal) {
+        Specification<ArtistEntity> spec = buildSpecification(name, albumTitle);
+
+        Window<ArtistEntity> window = artistJpaRepository.findBy(spec, query -> query
+                .sortBy(request.toSort())
+                .limit(request.getSize())
+                .scroll(request.toScrollPosition()));
+        Long totalElements = includeTotal ? artistJpaRepository.count(spec) : null;
+
+        CursorPage<ArtistEntity> entities = CursorPage.of(window, request,
+                entity -> KeysetCursor.of(request.getSortBy(), entity.getId(), entity.getName()),
+                totalElements);
+        if (!includeAlbums) {
+            return entities.map(artistMapper::toDomain);
+        }
+
+        Map<Long, ArtistEntity> fetched = fetchAlbumsAndImages(entities.getContent());
+        return entities.map(entity -> artistMapper.toDomainWithAlbums(fetched.getOrDefault(entity.getId(), entity)));
+    }
+
+    public List<Artist> search(String term, boolean includeAlbums, int limit) {
+        if (term == null || term.isBlank()) {
+            return List.of();
+        }
+
+        String trimmed = term.trim();
+        List<ArtistEntity> ranked = artistJpaRepository.searchByName(trimmed, LikePatterns.contains(trimmed), Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
+        if (!includeAlbums) {
+            return ranked.stream().map(artistMapper::toDomain).toList();
+        }
+
+        Map<Long, ArtistEntity> fetched = fetchAlbumsAndImages(ranked);
+        return ranked.stream()
+                .map(entity -> artistMapper.toDomainWithAlbums(fetched.getOrDefault(entity.getId(), entity)))
+                .toList();
+    }
+
+    private Specification<ArtistEntity> buildSpecification(String name, String albumTitle) {
+        return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (name != null && !name.isBlank()) {
                 predicates.add(criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("name")),
-                        "%" + name.toLowerCase() + "%"
+                        LikePatterns.contains(name.toLowerCase()),
+                        LikePatterns.ESCAPE
                 ));
             }
 
             if (albumTitle != null && !albumTitle.isBlank()) {
+                query.distinct(true);
                 Join<Object, Object> albumJoin = root.join("albums");
                 predicates.add(criteriaBuilder.like(
                         criteriaBuilder.lower(albumJoin.get("title")),
-                        "%" + albumTitle.toLowerCase() + "%"
+                        LikePatterns.contains(albumTitle.toLowerCase()),
+                        LikePatterns.ESCAPE
                 ));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
+    }
+
+    private long estimateCount(String name, String albumTitle, Specification<ArtistEntity> spec) {
+        if (isBlank(name) && isBlank(albumTitle)) {
+            return rowCountEstimator.estimateTable("artist", artistJpaRepository::count);
+        }
+
+        String key = String.join("|", "artist", normalize(name), normalize(albumTitle));
+        return rowCountEstimator.estimate(key, () -> artistJpaRepository.count(spec));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String normalize(String value) {
+        return isBlank(value) ? "" : value.toLowerCase();
+    }
+
+    private Map<Long, ArtistEntity> fetchAlbumsAndImages(List<ArtistEntity> entities) {
+        if (entities.isEmpty()) {
+            return Map.of();
+        }
 
-        return artistJpaRepository.findAll(spec, pageable)
-                .map(entity -> includeAlbums ? artistMapper.toDomainWithAlbums(entity) : artistMapper.toDomain(entity));
+        List<Long> ids = entities.stream().map(ArtistEntity::getId).toList();
+        // Inicializa as imagens dos álbuns no contexto de persistência antes de carregar as coleções de álbuns
+        artistJpaRepository.findAlbumsWithImagesByArtistIdIn(ids);
+        return artistJpaRepository.findWithAlbumsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ArtistEntity::getId, Function.identity()));
     }
 
     @Transactional
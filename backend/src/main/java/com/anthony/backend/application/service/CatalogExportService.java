@@ -0,0 +1,84 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class CatalogExportService {
+
+    private static final String CSV_HEADER = "album_id,album,artist_id,artist";
+
+    private final AlbumJpaRepository albumJpaRepository;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    public CatalogExportService(AlbumJpaRepository albumJpaRepository, EntityManager entityManager, JsonMapper jsonMapper) {
+        this.albumJpaRepository = albumJpaRepository;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Campos "artist" e "album" com os mesmos nomes da importação, para que o NDJSON exportado possa ser reimportado
+    private record ExportRow(Long albumId, String album, Long artistId, String artist) {
+    }
+
+    // Percorre os álbuns por cursor e limpa o contexto de persistência a cada lote, mantendo a memória constante
+    @Transactional(readOnly = true)
+    public long export(CatalogFormat format, OutputStream output) {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        try (Stream<AlbumEntity> albums = albumJpaRepository.streamAllWithArtist()) {
+            if (format == CatalogFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<AlbumEntity> iterator = albums.iterator();
+            while (iterator.hasNext()) {
+                AlbumEntity album = iterator.next();
+                ExportRow row = new ExportRow(album.getId(), album.getTitle(),
+                        album.getArtist().getId(), album.getArtist().getName());
+                writer.write(format == CatalogFormat.CSV ? toCsv(row) : jsonMapper.writeValueAsString(row));
+                writer.write('\n');
+
+                if (++rows % AlbumJpaRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao escrever a exportação do catálogo", e);
+        }
+
+        log.info("Exportação do catálogo concluída. Álbuns: {}", rows);
+        return rows;
+    }
+
+    private static String toCsv(ExportRow row) {
+        return row.albumId() + "," + csvField(row.album()) + "," + row.artistId() + "," + csvField(row.artist());
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
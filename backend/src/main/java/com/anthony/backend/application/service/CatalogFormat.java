@@ -0,0 +1,42 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.domain.exception.InvalidFileException;
+
+public enum CatalogFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    CatalogFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static CatalogFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            throw new InvalidFileException("Content-Type obrigatório: use application/x-ndjson ou text/csv");
+        }
+        String mediaType = contentType.toLowerCase();
+        if (mediaType.startsWith("application/x-ndjson") || mediaType.startsWith("application/jsonl")) {
+            return NDJSON;
+        }
+        if (mediaType.startsWith("text/csv")) {
+            return CSV;
+        }
+        throw new InvalidFileException("Formato não suportado: use application/x-ndjson ou text/csv");
+    }
+
+    public static CatalogFormat fromName(String name) {
+        for (CatalogFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new InvalidFileException("Formato não suportado: use ndjson ou csv");
+    }
+}
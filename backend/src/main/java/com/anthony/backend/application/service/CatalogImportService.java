@@ -0,0 +1,275 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.domain.model.CatalogImportError;
+import com.anthony.backend.domain.model.CatalogImportResult;
+import com.anthony.backend.infrastructure.persistence.repository.CatalogCache;
+import com.anthony.backend.infrastructure.persistence.repository.CatalogImportJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final int MAX_LENGTH = 255;
+
+    private final CatalogImportJdbcRepository importRepository;
+    private final CatalogCache catalogCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public CatalogImportService(CatalogImportJdbcRepository importRepository,
+                                CatalogCache catalogCache,
+                                TransactionTemplate transactionTemplate,
+                                JsonMapper jsonMapper,
+                                @Value("${catalog.import.chunk-size:1000}") int chunkSize,
+                                @Value("${catalog.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.importRepository = importRepository;
+        this.catalogCache = catalogCache;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonMapper = jsonMapper;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    private record Row(long line, String artist, String album) {
+    }
+
+    private record ChunkResult(long artistsCreated, long albumsCreated, Set<Long> artistsWithNewAlbums,
+                               List<Long> duplicateLines) {
+    }
+
+    // Estado acumulado entre lotes: artistas já resolvidos e títulos já existentes por artista
+    private final class ImportState {
+        final Map<String, Long> artistIds = new HashMap<>();
+        final Map<Long, Set<String>> albumTitles = new HashMap<>();
+        final List<CatalogImportError> errors = new ArrayList<>();
+        long totalRows;
+        long errorCount;
+        long artistsCreated;
+        long albumsCreated;
+
+        void error(long line, String message) {
+            errorCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(CatalogImportError.builder().line(line).message(message).build());
+            }
+        }
+    }
+
+    // Lê o corpo linha a linha e grava em lotes com commit próprio: um lote com falha não desfaz os anteriores
+    public CatalogImportResult importCatalog(InputStream body, CatalogFormat format) {
+        long start = System.nanoTime();
+        ImportState state = new ImportState();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == CatalogFormat.CSV && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+
+                state.totalRows++;
+                Row row = parse(line, lineNumber, format, state);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, state);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o arquivo de importação", e);
+        }
+        flush(chunk, state);
+
+        CatalogImportResult result = CatalogImportResult.builder()
+                .totalRows(state.totalRows)
+                .artistsCreated(state.artistsCreated)
+                .albumsCreated(state.albumsCreated)
+                .errorCount(state.errorCount)
+                .errors(state.errors)
+                .totalDurationMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+        log.info("Importação do catálogo concluída. Linhas: {}, Artistas criados: {}, Álbuns criados: {}, Erros: {}",
+                result.getTotalRows(), result.getArtistsCreated(), result.getAlbumsCreated(), result.getErrorCount());
+        return result;
+    }
+
+    private Row parse(String line, long lineNumber, CatalogFormat format, ImportState state) {
+        String artist;
+        String album;
+        if (format == CatalogFormat.NDJSON) {
+            try {
+                JsonNode node = jsonMapper.readTree(line);
+                artist = node.path("artist").isString() ? node.path("artist").asString() : null;
+                album = node.path("album").isString() ? node.path("album").asString() : null;
+            } catch (JacksonException e) {
+                state.error(lineNumber, "JSON inválido");
+                return null;
+            }
+        } else {
+            List<String> fields = parseCsvLine(line);
+            if (fields == null || fields.size() != 2) {
+                state.error(lineNumber, "Linha CSV deve ter exatamente duas colunas: artista e álbum");
+                return null;
+            }
+            artist = fields.get(0);
+            album = fields.get(1);
+        }
+
+        artist = artist == null ? null : artist.trim();
+        album = album == null ? null : album.trim();
+        if (artist == null || artist.isEmpty() || album == null || album.isEmpty()) {
+            state.error(lineNumber, "Nome do artista e título do álbum são obrigatórios");
+            return null;
+        }
+        if (artist.length() > MAX_LENGTH || album.length() > MAX_LENGTH) {
+            state.error(lineNumber, "Nome do artista e título do álbum devem ter no máximo " + MAX_LENGTH + " caracteres");
+            return null;
+        }
+        return new Row(lineNumber, artist, album);
+    }
+
+    private void flush(List<Row> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> writeChunk(chunk, state));
+            state.artistsCreated += result.artistsCreated();
+            state.albumsCreated += result.albumsCreated();
+            result.duplicateLines().forEach(line -> state.error(line, "Artista já tem um álbum com este título"));
+            // A escrita via JDBC não passa pelos repositórios com cache: artistas em cache ainda listariam os álbuns antigos
+            importRepository.evictSecondLevelCache();
+            result.artistsWithNewAlbums().forEach(catalogCache::evictArtist);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar lote da importação do catálogo (linhas {} a {})",
+                    chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e);
+            // O que foi resolvido neste lote pode ter sido desfeito pelo rollback; recarrega do banco no próximo lote
+            state.artistIds.clear();
+            state.albumTitles.clear();
+            chunk.forEach(row -> state.error(row.line(), "Falha ao gravar o lote desta linha"));
+        }
+    }
+
+    private ChunkResult writeChunk(List<Row> chunk, ImportState state) {
+        // 1. Resolve artistas pelo nome, criando os que ainda não existem
+        Set<String> unresolved = new LinkedHashSet<>();
+        chunk.forEach(row -> {
+            if (!state.artistIds.containsKey(row.artist())) {
+                unresolved.add(row.artist());
+            }
+        });
+
+        long artistsCreated = 0;
+        if (!unresolved.isEmpty()) {
+            Map<String, Long> existing = importRepository.findArtistIdsByName(unresolved);
+            state.artistIds.putAll(existing);
+
+            Set<String> missing = new LinkedHashSet<>(unresolved);
+            missing.removeAll(existing.keySet());
+            if (!missing.isEmpty()) {
+                importRepository.insertArtists(missing);
+                state.artistIds.putAll(importRepository.findArtistIdsByName(missing));
+                artistsCreated = missing.size();
+            }
+        }
+
+        // 2. Carrega os títulos existentes só dos artistas ainda não vistos nesta importação
+        Set<Long> unloaded = new HashSet<>();
+        chunk.forEach(row -> {
+            Long artistId = state.artistIds.get(row.artist());
+            if (!state.albumTitles.containsKey(artistId)) {
+                unloaded.add(artistId);
+            }
+        });
+        state.albumTitles.putAll(importRepository.findAlbumTitlesByArtistIds(unloaded));
+
+        // 3. Descarta álbuns repetidos no banco ou no próprio arquivo e grava o restante em lote
+        List<Map.Entry<Long, String>> albums = new ArrayList<>(chunk.size());
+        Set<Long> artistsWithNewAlbums = new HashSet<>();
+        List<Long> duplicateLines = new ArrayList<>();
+        for (Row row : chunk) {
+            Long artistId = state.artistIds.get(row.artist());
+            if (state.albumTitles.get(artistId).add(row.album().toLowerCase())) {
+                albums.add(new AbstractMap.SimpleImmutableEntry<>(artistId, row.album()));
+                artistsWithNewAlbums.add(artistId);
+            } else {
+                duplicateLines.add(row.line());
+            }
+        }
+        importRepository.insertAlbums(albums);
+
+        return new ChunkResult(artistsCreated, albums.size(), artistsWithNewAlbums, duplicateLines);
+    }
+
+    private static boolean isCsvHeader(String line) {
+        List<String> fields = parseCsvLine(line);
+        return fields != null && fields.size() == 2
+                && fields.get(0).trim().equalsIgnoreCase("artist")
+                && fields.get(1).trim().equalsIgnoreCase("album");
+    }
+
+    // CSV no formato RFC 4180 restrito a uma linha por registro; retorna null para aspas não fechadas
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
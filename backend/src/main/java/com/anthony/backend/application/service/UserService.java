@@ -2,17 +2,20 @@ package com.anthony.backend.application.service;
 
 import com.anthony.backend.domain.model.User;
 import com.anthony.backend.domain.repository.UserRepository;
+import com.anthony.backend.infrastructure.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @PreAuthorize("hasRole('ADMIN')")
     public List<User> getAllUsers() {
@@ -27,7 +30,9 @@ public class UserService {
 
     @PreAuthorize("hasRole('ADMIN')")
     public void deleteUser(Long id) {
+        Optional<User> user = userRepository.findById(id);
         userRepository.deleteById(id);
+        user.ifPresent(deleted -> userDetailsCache.evict(deleted.getUsername()));
     }
 }
 
@@ -1,56 +1,92 @@
 package com.anthony.backend.application.service;
 
 import com.anthony.backend.controller.dto.notification.AlbumNotificationDTO;
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventOutboxJpaRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+// Os eventos são gravados no outbox dentro da transação da alteração; o AlbumOutboxRelay os publica em /topic/albums
 @Service
 @RequiredArgsConstructor
 public class WebSocketNotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
-
-    public void notifyAlbumCreated(Long albumId, String title, String artistName, Long artistId) {
-        AlbumNotificationDTO notification = AlbumNotificationDTO.builder()
-                .id(albumId)
-                .title(title)
-                .artistName(artistName)
-                .artistId(artistId)
-                .message("Novo álbum criado: " + title)
-                .timestamp(LocalDateTime.now())
-                .type("ALBUM_CREATED")
-                .build();
+    public static final String ALBUM_CREATED = "ALBUM_CREATED";
+    public static final String ALBUM_UPDATED = "ALBUM_UPDATED";
+    public static final String ALBUM_DELETED = "ALBUM_DELETED";
+    public static final String ALBUM_IMAGES_UPDATED = "ALBUM_IMAGES_UPDATED";
+
+    private static final int MAX_EVENTS_LIMIT = 500;
 
-        messagingTemplate.convertAndSend("/topic/albums", notification);
+    private final AlbumEventOutboxJpaRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyAlbumCreated(Album album) {
+        record(ALBUM_CREATED, album.getId(), album);
     }
 
-    public void notifyAlbumUpdated(Long albumId, String title, String artistName, Long artistId) {
-        AlbumNotificationDTO notification = AlbumNotificationDTO.builder()
-                .id(albumId)
-                .title(title)
-                .artistName(artistName)
-                .artistId(artistId)
-                .message("Álbum atualizado: " + title)
-                .timestamp(LocalDateTime.now())
-                .type("ALBUM_UPDATED")
-                .build();
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyAlbumUpdated(Album album) {
+        record(ALBUM_UPDATED, album.getId(), album);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyAlbumDeleted(Album album) {
+        record(ALBUM_DELETED, album.getId(), album);
+    }
 
-        messagingTemplate.convertAndSend("/topic/albums", notification);
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyAlbumImagesUpdated(Long albumId) {
+        record(ALBUM_IMAGES_UPDATED, albumId, null);
     }
 
-    public void notifyAlbumDeleted(Long albumId, String title) {
-        AlbumNotificationDTO notification = AlbumNotificationDTO.builder()
-                .id(albumId)
-                .title(title)
-                .message("Álbum deletado: " + title)
-                .timestamp(LocalDateTime.now())
-                .type("ALBUM_DELETED")
+    @Transactional(readOnly = true)
+    public List<AlbumNotificationDTO> findEventsAfter(Long afterSequence, int limit) {
+        return outboxRepository.findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(
+                        afterSequence == null ? 0L : afterSequence,
+                        Limit.of(Math.min(Math.max(limit, 1), MAX_EVENTS_LIMIT)))
+                .stream()
+                .map(WebSocketNotificationService::toNotification)
+                .toList();
+    }
+
+    public static AlbumNotificationDTO toNotification(AlbumEventOutboxEntity event) {
+        return AlbumNotificationDTO.builder()
+                .sequence(event.getPublishSequence())
+                .id(event.getAlbumId())
+                .title(event.getTitle())
+                .artistName(event.getArtistName())
+                .artistId(event.getArtistId())
+                .message(message(event.getEventType(), event.getTitle()))
+                .timestamp(event.getCreatedAt())
+                .type(event.getEventType())
                 .build();
+    }
 
-        messagingTemplate.convertAndSend("/topic/albums", notification);
+    private void record(String type, Long albumId, Album album) {
+        outboxRepository.save(AlbumEventOutboxEntity.builder()
+                .eventType(type)
+                .albumId(albumId)
+                .title(album != null ? album.getTitle() : null)
+                .artistId(album != null && album.getArtist() != null ? album.getArtist().getId() : null)
+                .artistName(album != null && album.getArtist() != null ? album.getArtist().getName() : null)
+                .createdAt(LocalDateTime.now())
+                .build());
     }
-}
 
+    private static String message(String type, String title) {
+        return switch (type) {
+            case ALBUM_CREATED -> "Novo álbum criado: " + title;
+            case ALBUM_UPDATED -> "Álbum atualizado: " + title;
+            case ALBUM_DELETED -> "Álbum deletado: " + title;
+            default -> "Imagens do álbum atualizadas";
+        };
+    }
+}
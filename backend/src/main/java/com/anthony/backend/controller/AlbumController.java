@@ -2,11 +2,17 @@ package com.anthony.backend.controller;
 
 
 import com.anthony.backend.application.mapper.AlbumMapper;
+import com.anthony.backend.application.pagination.CountMode;
+import com.anthony.backend.application.pagination.CountedPage;
+import com.anthony.backend.application.pagination.CursorPage;
+import com.anthony.backend.application.pagination.CursorPage.CursorRequest;
 import com.anthony.backend.application.service.AlbumService;
 import com.anthony.backend.application.service.WebSocketNotificationService;
+import com.anthony.backend.controller.dto.notification.AlbumNotificationDTO;
 import com.anthony.backend.controller.dto.request.AlbumCreateUpdateResponseDTO;
 import com.anthony.backend.controller.dto.request.AlbumRequestDTO;
 import com.anthony.backend.controller.dto.response.AlbumResponseDTO;
+import com.anthony.backend.controller.dto.response.CursorPageResponseDTO;
 import com.anthony.backend.controller.dto.response.PageResponseDTO;
 import com.anthony.backend.domain.exception.BaseExceptionController;
 import com.anthony.backend.domain.model.Album;
@@ -18,7 +24,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,11 +31,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/v1/album")
 @Tag(name = "Álbuns", description = "API para gerenciamento de álbuns")
 public class AlbumController extends BaseExceptionController {
 
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of("id", "title");
+
     private final AlbumService albumService;
     private final AlbumMapper albumMapper;
     private final WebSocketNotificationService notificationService;
@@ -52,13 +62,6 @@ public class AlbumController extends BaseExceptionController {
     public ResponseEntity<AlbumCreateUpdateResponseDTO> create(@Valid @RequestBody AlbumRequestDTO request) {
         Album album = albumService.create(request.getTitle(), request.getArtistId());
 
-        notificationService.notifyAlbumCreated(
-            album.getId(),
-            album.getTitle(),
-            album.getArtist().getName(),
-            album.getArtist().getId()
-        );
-
         return ResponseEntity.status(HttpStatus.CREATED).body(albumMapper.toCreateUpdateResponseDTO(album));
     }
 
@@ -67,11 +70,13 @@ public class AlbumController extends BaseExceptionController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Álbum encontrado",
                     content = @Content(schema = @Schema(implementation = AlbumResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamanho de miniatura não suportado", content = @Content),
             @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content)
     })
     public ResponseEntity<AlbumResponseDTO> findById(
-            @Parameter(description = "ID do álbum") @PathVariable Long id) {
-        Album album = albumService.findById(id);
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            @Parameter(description = "Tamanho da miniatura da capa em pixels (ex: 128, 512, 1024); sem valor retorna o original") @RequestParam(required = false) Integer imageSize) {
+        Album album = albumService.findById(id, imageSize);
         return ResponseEntity.ok(albumMapper.toResponseDTO(album));
     }
 
@@ -79,7 +84,8 @@ public class AlbumController extends BaseExceptionController {
     @Operation(summary = "Listar álbuns com paginação e filtros",
             description = "Lista todos os álbuns com suporte a paginação, ordenação e filtros por título, nome do artista e ID do artista")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de álbuns retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista de álbuns retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Modo de contagem ou tamanho de miniatura inválido", content = @Content)
     })
     public ResponseEntity<PageResponseDTO<AlbumResponseDTO>> findAll(
             @Parameter(description = "Filtro por título do álbum") @RequestParam(required = false) String title,
@@ -88,14 +94,70 @@ public class AlbumController extends BaseExceptionController {
             @Parameter(description = "Número da página (inicia em 0)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Quantidade de itens por página") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Campo para ordenação (ex: title, id)") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction) {
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Modo de contagem do total: exact, estimate ou none") @RequestParam(defaultValue = "exact") String count,
+            @Parameter(description = "Tamanho da miniatura da capa em pixels (ex: 128, 512, 1024); sem valor retorna o original") @RequestParam(required = false) Integer imageSize) {
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<Album> albums = albumService.findAll(title, artistName, artistId, pageable);
-        Page<AlbumResponseDTO> responsePage = albums.map(albumMapper::toResponseDTO);
-        return ResponseEntity.ok(PageResponseDTO.from(responsePage));
+        CountedPage<Album> albums = albumService.findAll(title, artistName, artistId, pageable, CountMode.from(count), imageSize);
+        return ResponseEntity.ok(PageResponseDTO.from(albums.map(albumMapper::toResponseDTO)));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar álbuns com paginação por cursor",
+            description = "Lista álbuns usando paginação keyset com cursores opacos 'after'/'before', sem OFFSET e sem contagem total por padrão")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de álbuns retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou tamanho de miniatura inválidos", content = @Content)
+    })
+    public ResponseEntity<CursorPageResponseDTO<AlbumResponseDTO>> findAllByCursor(
+            @Parameter(description = "Filtro por título do álbum") @RequestParam(required = false) String title,
+            @Parameter(description = "Filtro por nome do artista") @RequestParam(required = false) String artistName,
+            @Parameter(description = "Filtro por ID do artista") @RequestParam(required = false) Long artistId,
+            @Parameter(description = "Cursor da página seguinte (nextCursor)") @RequestParam(required = false) String after,
+            @Parameter(description = "Cursor da página anterior (previousCursor)") @RequestParam(required = false) String before,
+            @Parameter(description = "Quantidade de itens por página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campo para ordenação (title ou id)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Incluir contagem total de elementos") @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "Tamanho da miniatura da capa em pixels (ex: 128, 512, 1024); sem valor retorna o original") @RequestParam(required = false) Integer imageSize) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
+        CursorRequest request = CursorRequest.of(sortBy, sortDirection, after, before, size, CURSOR_SORT_FIELDS);
+
+        CursorPage<Album> albums = albumService.findAllByCursor(title, artistName, artistId, request, includeTotal, imageSize);
+        return ResponseEntity.ok(CursorPageResponseDTO.from(albums.map(albumMapper::toResponseDTO)));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar álbuns por relevância",
+            description = "Busca álbuns por similaridade de título (trigramas), ordenados do mais relevante para o menos relevante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Álbuns encontrados"),
+            @ApiResponse(responseCode = "400", description = "Tamanho de miniatura não suportado", content = @Content)
+    })
+    public ResponseEntity<List<AlbumResponseDTO>> search(
+            @Parameter(description = "Termo de busca") @RequestParam String q,
+            @Parameter(description = "Quantidade máxima de resultados (até 100)") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Tamanho da miniatura da capa em pixels (ex: 128, 512, 1024); sem valor retorna o original") @RequestParam(required = false) Integer imageSize) {
+        List<AlbumResponseDTO> albums = albumService.search(q, limit, imageSize).stream()
+                .map(albumMapper::toResponseDTO)
+                .toList();
+        return ResponseEntity.ok(albums);
+    }
+
+    @GetMapping("/events")
+    @Operation(summary = "Listar eventos de álbuns",
+            description = "Retorna os eventos de álbuns posteriores a uma sequência, para o cliente retomar as notificações após reconectar")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Eventos encontrados")
+    })
+    public ResponseEntity<List<AlbumNotificationDTO>> findEvents(
+            @Parameter(description = "Última sequência recebida pelo cliente") @RequestParam(defaultValue = "0") Long afterSequence,
+            @Parameter(description = "Quantidade máxima de eventos (até 500)") @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(notificationService.findEventsAfter(afterSequence, limit));
     }
 
     @PutMapping("/{id}")
@@ -6,6 +6,7 @@ import com.anthony.backend.controller.dto.response.AlbumImageDTO;
 import com.anthony.backend.controller.dto.response.AlbumImageUploadResponseDTO;
 import com.anthony.backend.domain.exception.BaseExceptionController;
 import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.model.AlbumImageUploadResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -34,7 +35,7 @@ public class AlbumImageController extends BaseExceptionController {
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "Upload de imagens do álbum",
-               description = "Faz upload de uma ou mais imagens para o álbum. As imagens são armazenadas no MinIO.")
+               description = "Faz upload de uma ou mais imagens para o álbum. Os arquivos são enviados ao MinIO em paralelo e a resposta inclui o tempo de envio de cada um.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Imagens carregadas com sucesso",
                     content = @Content(schema = @Schema(implementation = AlbumImageUploadResponseDTO.class))),
@@ -46,15 +47,19 @@ public class AlbumImageController extends BaseExceptionController {
             @RequestPart("files") MultipartFile[] files,
             @Parameter(description = "Definir primeira imagem como padrão") @RequestParam(required = false, defaultValue = "false") Boolean setAsDefault) {
 
-        List<AlbumImage> uploadedImages = albumImageService.uploadImages(albumId, files, setAsDefault);
+        AlbumImageUploadResult result = albumImageService.uploadImages(albumId, files, setAsDefault);
 
-        List<AlbumImageDTO> imageDTOs = uploadedImages.stream()
+        List<AlbumImageDTO> imageDTOs = result.getImages().stream()
                 .map(albumImageMapper::toDTO)
                 .collect(Collectors.toList());
 
         AlbumImageUploadResponseDTO response = AlbumImageUploadResponseDTO.builder()
                 .images(imageDTOs)
                 .message(String.format("%d imagem(ns) carregada(s) com sucesso", imageDTOs.size()))
+                .timings(result.getTimings().stream()
+                        .map(albumImageMapper::toTimingDTO)
+                        .collect(Collectors.toList()))
+                .totalDurationMillis(result.getTotalDurationMillis())
                 .build();
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -65,12 +70,14 @@ public class AlbumImageController extends BaseExceptionController {
                description = "Retorna todas as imagens de um álbum com URLs pré-assinadas válidas por 30 minutos")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de imagens retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Tamanho de miniatura não suportado", content = @Content),
             @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content)
     })
     public ResponseEntity<List<AlbumImageDTO>> getAlbumImages(
-            @Parameter(description = "ID do álbum") @PathVariable Long albumId) {
+            @Parameter(description = "ID do álbum") @PathVariable Long albumId,
+            @Parameter(description = "Tamanho da miniatura em pixels (ex: 128, 512, 1024); sem valor retorna o original") @RequestParam(required = false) Integer size) {
 
-        List<AlbumImage> images = albumImageService.getAlbumImages(albumId);
+        List<AlbumImage> images = albumImageService.getAlbumImages(albumId, size);
 
         List<AlbumImageDTO> imageDTOs = images.stream()
                 .map(albumImageMapper::toDTO)
@@ -85,12 +92,14 @@ public class AlbumImageController extends BaseExceptionController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Imagem encontrada",
                     content = @Content(schema = @Schema(implementation = AlbumImageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamanho de miniatura não suportado", content = @Content),
             @ApiResponse(responseCode = "404", description = "Imagem não encontrada", content = @Content)
     })
     public ResponseEntity<AlbumImageDTO> getImageById(
-            @Parameter(description = "ID da imagem") @PathVariable Long imageId) {
+            @Parameter(description = "ID da imagem") @PathVariable Long imageId,
+            @Parameter(description = "Tamanho da miniatura em pixels (ex: 128, 512, 1024); sem valor retorna o original") @RequestParam(required = false) Integer size) {
 
-        AlbumImage image = albumImageService.getImageById(imageId);
+        AlbumImage image = albumImageService.getImageById(imageId, size);
         return ResponseEntity.ok(albumImageMapper.toDTO(image));
     }
 
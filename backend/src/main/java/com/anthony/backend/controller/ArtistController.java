@@ -1,9 +1,14 @@
 package com.anthony.backend.controller;
 
 import com.anthony.backend.application.mapper.ArtistMapper;
+import com.anthony.backend.application.pagination.CountMode;
+import com.anthony.backend.application.pagination.CountedPage;
+import com.anthony.backend.application.pagination.CursorPage;
+import com.anthony.backend.application.pagination.CursorPage.CursorRequest;
 import com.anthony.backend.application.service.ArtistService;
 import com.anthony.backend.controller.dto.request.ArtistRequestDTO;
 import com.anthony.backend.controller.dto.response.ArtistResponseDTO;
+import com.anthony.backend.controller.dto.response.CursorPageResponseDTO;
 import com.anthony.backend.controller.dto.response.PageResponseDTO;
 import com.anthony.backend.domain.exception.BaseExceptionController;
 import com.anthony.backend.domain.model.Artist;
@@ -15,7 +20,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,11 +27,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/v1/artist")
 @Tag(name = "Artistas", description = "API para gerenciamento de artistas")
 public class ArtistController extends BaseExceptionController {
 
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of("id", "name");
+
     private final ArtistService artistService;
     private final ArtistMapper artistMapper;
 
@@ -65,7 +74,8 @@ public class ArtistController extends BaseExceptionController {
     @Operation(summary = "Listar artistas com paginação e filtros",
             description = "Lista todos os artistas com suporte a paginação, ordenação e filtros por nome e título de álbum")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de artistas retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista de artistas retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Modo de contagem inválido", content = @Content)
     })
     public ResponseEntity<PageResponseDTO<ArtistResponseDTO>> findAll(
             @Parameter(description = "Filtro por nome do artista") @RequestParam(required = false) String name,
@@ -74,14 +84,55 @@ public class ArtistController extends BaseExceptionController {
             @Parameter(description = "Número da página (inicia em 0)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Quantidade de itens por página") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Campo para ordenação (ex: name, id)") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction) {
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Modo de contagem do total: exact, estimate ou none") @RequestParam(defaultValue = "exact") String count) {
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<Artist> artists = artistService.findAll(name, albumTitle, albums, pageable);
-        Page<ArtistResponseDTO> responsePage = artists.map(artistMapper::toResponseDTO);
-        return ResponseEntity.ok(PageResponseDTO.from(responsePage));
+        CountedPage<Artist> artists = artistService.findAll(name, albumTitle, albums, pageable, CountMode.from(count));
+        return ResponseEntity.ok(PageResponseDTO.from(artists.map(artistMapper::toResponseDTO)));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar artistas com paginação por cursor",
+            description = "Lista artistas usando paginação keyset com cursores opacos 'after'/'before', sem OFFSET e sem contagem total por padrão")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de artistas retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos", content = @Content)
+    })
+    public ResponseEntity<CursorPageResponseDTO<ArtistResponseDTO>> findAllByCursor(
+            @Parameter(description = "Filtro por nome do artista") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtro por título do álbum") @RequestParam(required = false) String albumTitle,
+            @Parameter(description = "Incluir álbuns na resposta") @RequestParam(required = false, defaultValue = "false") boolean albums,
+            @Parameter(description = "Cursor da página seguinte (nextCursor)") @RequestParam(required = false) String after,
+            @Parameter(description = "Cursor da página anterior (previousCursor)") @RequestParam(required = false) String before,
+            @Parameter(description = "Quantidade de itens por página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campo para ordenação (name ou id)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Incluir contagem total de elementos") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
+        CursorRequest request = CursorRequest.of(sortBy, sortDirection, after, before, size, CURSOR_SORT_FIELDS);
+
+        CursorPage<Artist> artists = artistService.findAllByCursor(name, albumTitle, albums, request, includeTotal);
+        return ResponseEntity.ok(CursorPageResponseDTO.from(artists.map(artistMapper::toResponseDTO)));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar artistas por relevância",
+            description = "Busca artistas por similaridade de nome (trigramas), ordenados do mais relevante para o menos relevante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Artistas encontrados")
+    })
+    public ResponseEntity<List<ArtistResponseDTO>> search(
+            @Parameter(description = "Termo de busca") @RequestParam String q,
+            @Parameter(description = "Incluir álbuns na resposta") @RequestParam(required = false, defaultValue = "false") boolean albums,
+            @Parameter(description = "Quantidade máxima de resultados (até 100)") @RequestParam(defaultValue = "20") int limit) {
+        List<ArtistResponseDTO> artists = artistService.search(q, albums, limit).stream()
+                .map(artistMapper::toResponseDTO)
+                .toList();
+        return ResponseEntity.ok(artists);
     }
 
     @PutMapping("/{id}")
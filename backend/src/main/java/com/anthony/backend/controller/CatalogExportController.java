@@ -0,0 +1,51 @@
+package com.anthony.backend.controller;
+
+import com.anthony.backend.application.service.CatalogExportService;
+import com.anthony.backend.application.service.CatalogFormat;
+import com.anthony.backend.domain.exception.BaseExceptionController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/catalog/export")
+@Tag(name = "Exportação do Catálogo", description = "API para exportação em massa de álbuns e artistas em NDJSON ou CSV")
+public class CatalogExportController extends BaseExceptionController {
+
+    private final CatalogExportService catalogExportService;
+
+    public CatalogExportController(CatalogExportService catalogExportService) {
+        this.catalogExportService = catalogExportService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Exportar o catálogo de álbuns",
+            description = "Gera um álbum por linha em NDJSON (albumId, album, artistId, artist) ou CSV, escrito direto na resposta "
+                    + "conforme é lido do banco. O NDJSON exportado pode ser enviado de volta à importação.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Formato: ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format) {
+        CatalogFormat catalogFormat = CatalogFormat.fromName(format);
+        String filename = "catalog." + catalogFormat.name().toLowerCase();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(catalogFormat.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(output -> catalogExportService.export(catalogFormat, output));
+    }
+}
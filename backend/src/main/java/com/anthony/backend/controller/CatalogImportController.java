@@ -0,0 +1,51 @@
+package com.anthony.backend.controller;
+
+import com.anthony.backend.application.mapper.CatalogImportMapper;
+import com.anthony.backend.application.service.CatalogFormat;
+import com.anthony.backend.application.service.CatalogImportService;
+import com.anthony.backend.controller.dto.response.CatalogImportResponseDTO;
+import com.anthony.backend.domain.exception.BaseExceptionController;
+import com.anthony.backend.domain.model.CatalogImportResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/catalog/import")
+@Tag(name = "Importação do Catálogo", description = "API para carga em massa de artistas e álbuns")
+public class CatalogImportController extends BaseExceptionController {
+
+    private final CatalogImportService catalogImportService;
+    private final CatalogImportMapper catalogImportMapper;
+
+    public CatalogImportController(CatalogImportService catalogImportService, CatalogImportMapper catalogImportMapper) {
+        this.catalogImportService = catalogImportService;
+        this.catalogImportMapper = catalogImportMapper;
+    }
+
+    // O corpo é lido direto do stream da requisição, sem ser carregado inteiro em memória
+    @PostMapping(consumes = {"application/x-ndjson", "application/jsonl", "text/csv"})
+    @Operation(summary = "Importar artistas e álbuns em massa",
+            description = "Recebe um corpo NDJSON ({\"artist\": \"...\", \"album\": \"...\"} por linha) ou CSV (artist,album, cabeçalho opcional). "
+                    + "Artistas são reaproveitados pelo nome e álbuns repetidos para o mesmo artista são rejeitados linha a linha.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada; erros por linha vêm no corpo",
+                    content = @Content(schema = @Schema(implementation = CatalogImportResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado", content = @Content)
+    })
+    public ResponseEntity<CatalogImportResponseDTO> importCatalog(HttpServletRequest request) throws IOException {
+        CatalogFormat format = CatalogFormat.fromContentType(request.getContentType());
+        CatalogImportResult result = catalogImportService.importCatalog(request.getInputStream(), format);
+        return ResponseEntity.ok(catalogImportMapper.toResponseDTO(result));
+    }
+}
@@ -0,0 +1,20 @@
+package com.anthony.backend.controller.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlbumEventsNotificationDTO {
+    private String type;
+    private List<AlbumNotificationDTO> events;
+    private Long lastSequence;
+    private LocalDateTime timestamp;
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,4 +26,7 @@ public class AlbumImageDTO {
 
     @Schema(description = "Indica se é a imagem padrão", example = "true")
     private Boolean isDefault;
+
+    @Schema(description = "URLs pré-assinadas das miniaturas por tamanho (lado maior em pixels), presente quando já geradas")
+    private Map<Integer, String> renditionUrls;
 }
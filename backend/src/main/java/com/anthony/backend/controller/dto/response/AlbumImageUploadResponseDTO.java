@@ -20,5 +20,11 @@ public class AlbumImageUploadResponseDTO {
 
     @Schema(description = "Mensagem de sucesso")
     private String message;
+
+    @Schema(description = "Tempo de envio de cada arquivo para o storage")
+    private List<ImageUploadTimingDTO> timings;
+
+    @Schema(description = "Duração total do upload em milissegundos", example = "250")
+    private long totalDurationMillis;
 }
 
@@ -0,0 +1,21 @@
+package com.anthony.backend.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Erro de uma linha da importação")
+public class CatalogImportErrorDTO {
+
+    @Schema(description = "Número da linha no arquivo enviado", example = "42")
+    private long line;
+
+    @Schema(description = "Motivo da rejeição", example = "Artista já tem um álbum com este título")
+    private String message;
+}
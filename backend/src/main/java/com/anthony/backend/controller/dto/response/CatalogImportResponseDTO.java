@@ -0,0 +1,35 @@
+package com.anthony.backend.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO de resposta da importação em massa do catálogo")
+public class CatalogImportResponseDTO {
+
+    @Schema(description = "Linhas de dados lidas (sem contar linhas em branco e cabeçalho)", example = "100000")
+    private long totalRows;
+
+    @Schema(description = "Artistas criados", example = "2500")
+    private long artistsCreated;
+
+    @Schema(description = "Álbuns criados", example = "99950")
+    private long albumsCreated;
+
+    @Schema(description = "Total de linhas rejeitadas", example = "50")
+    private long errorCount;
+
+    @Schema(description = "Linhas rejeitadas, limitado às primeiras catalog.import.max-reported-errors")
+    private List<CatalogImportErrorDTO> errors;
+
+    @Schema(description = "Duração total da importação em milissegundos", example = "45000")
+    private long totalDurationMillis;
+}
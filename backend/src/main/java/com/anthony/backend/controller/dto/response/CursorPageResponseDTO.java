@@ -0,0 +1,51 @@
+package com.anthony.backend.controller.dto.response;
+
+import com.anthony.backend.application.pagination.CursorPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resposta paginada por cursor (keyset)")
+public class CursorPageResponseDTO<T> {
+
+    @Schema(description = "Lista de itens da página atual")
+    private List<T> content;
+
+    @Schema(description = "Quantidade de itens por página", example = "10")
+    private int size;
+
+    @Schema(description = "Cursor opaco para a próxima página (usar em 'after')", example = "dGl0bGUKMTIKQWJiZXkgUm9hZA")
+    private String nextCursor;
+
+    @Schema(description = "Cursor opaco para a página anterior (usar em 'before')", example = "dGl0bGUKMwpBbmltYWxz")
+    private String previousCursor;
+
+    @Schema(description = "Indica se existe próxima página", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Indica se existe página anterior", example = "false")
+    private boolean hasPrevious;
+
+    @Schema(description = "Total de elementos (presente apenas quando includeTotal=true)", example = "120", nullable = true)
+    private Long totalElements;
+
+    public static <T> CursorPageResponseDTO<T> from(CursorPage<T> page) {
+        return CursorPageResponseDTO.<T>builder()
+                .content(page.getContent())
+                .size(page.getSize())
+                .nextCursor(page.getNextCursor())
+                .previousCursor(page.getPreviousCursor())
+                .hasNext(page.hasNext())
+                .hasPrevious(page.hasPrevious())
+                .totalElements(page.getTotalElements())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.anthony.backend.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tempo de envio de um arquivo para o storage")
+public class ImageUploadTimingDTO {
+
+    @Schema(description = "Nome original do arquivo", example = "cover.jpg")
+    private String originalFilename;
+
+    @Schema(description = "Chave do arquivo no storage", example = "album-1/3f2b9c1e.jpg")
+    private String fileKey;
+
+    @Schema(description = "Tamanho do arquivo em bytes", example = "524288")
+    private long sizeBytes;
+
+    @Schema(description = "Duração do envio em milissegundos", example = "120")
+    private long durationMillis;
+}
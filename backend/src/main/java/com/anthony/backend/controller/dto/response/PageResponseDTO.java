@@ -1,5 +1,6 @@
 package com.anthony.backend.controller.dto.response;
 
+import com.anthony.backend.application.pagination.CountedPage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,11 +26,17 @@ public class PageResponseDTO<T> {
     @Schema(description = "Quantidade de itens por página", example = "10")
     private int size;
 
-    @Schema(description = "Total de elementos disponíveis", example = "120")
-    private long totalElements;
+    @Schema(description = "Total de elementos disponíveis (ausente quando count=none)", example = "120", nullable = true)
+    private Long totalElements;
 
-    @Schema(description = "Total de páginas disponíveis", example = "12")
-    private int totalPages;
+    @Schema(description = "Total de páginas disponíveis (ausente quando count=none)", example = "12", nullable = true)
+    private Integer totalPages;
+
+    @Schema(description = "Indica se os totais são exatos ou estimados", example = "true")
+    private boolean totalExact;
+
+    @Schema(description = "Indica se existe próxima página", example = "true")
+    private boolean hasNext;
 
     public static <T> PageResponseDTO<T> from(Page<T> page) {
         return PageResponseDTO.<T>builder()
@@ -38,6 +45,20 @@ public class PageResponseDTO<T> {
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
                 .totalPages(page.getTotalPages())
+                .totalExact(true)
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    public static <T> PageResponseDTO<T> from(CountedPage<T> page) {
+        return PageResponseDTO.<T>builder()
+                .content(page.getContent())
+                .page(page.getPage())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .totalExact(page.isTotalExact())
+                .hasNext(page.isHasNext())
                 .build();
     }
 }
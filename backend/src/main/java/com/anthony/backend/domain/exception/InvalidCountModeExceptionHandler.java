@@ -0,0 +1,8 @@
+package com.anthony.backend.domain.exception;
+
+public class InvalidCountModeExceptionHandler extends GlobalExceptionHandler {
+
+    public InvalidCountModeExceptionHandler(String value) {
+        super(String.format("Modo de contagem '%s' inválido. Use: exact, estimate ou none", value));
+    }
+}
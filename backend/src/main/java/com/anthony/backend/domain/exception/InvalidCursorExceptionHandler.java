@@ -0,0 +1,12 @@
+package com.anthony.backend.domain.exception;
+
+public class InvalidCursorExceptionHandler extends GlobalExceptionHandler {
+
+    public InvalidCursorExceptionHandler(String message) {
+        super(message);
+    }
+
+    public InvalidCursorExceptionHandler(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.anthony.backend.domain.exception;
+
+import java.util.List;
+
+public class InvalidRenditionSizeExceptionHandler extends GlobalExceptionHandler {
+
+    public InvalidRenditionSizeExceptionHandler(Integer size, List<Integer> allowedSizes) {
+        super(String.format("Tamanho de imagem '%d' não suportado. Use: %s", size, allowedSizes));
+    }
+}
@@ -2,6 +2,8 @@ package com.anthony.backend.domain.model;
 
 import lombok.*;
 
+import java.util.Map;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,5 +15,7 @@ public class AlbumImage {
     private String fileKey;
     private String fileUrl;
     private Boolean isDefault;
+    private Boolean renditionsReady;
+    private Map<Integer, String> renditionUrls;
     private Album album;
 }
@@ -0,0 +1,17 @@
+package com.anthony.backend.domain.model;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlbumImageUploadResult {
+
+    private List<AlbumImage> images;
+    private List<ImageUploadTiming> timings;
+    private long totalDurationMillis;
+}
@@ -0,0 +1,24 @@
+package com.anthony.backend.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogImportResult {
+
+    private long totalRows;
+    private long artistsCreated;
+    private long albumsCreated;
+    private long errorCount;
+    private List<CatalogImportError> errors;
+    private long totalDurationMillis;
+}
@@ -0,0 +1,16 @@
+package com.anthony.backend.domain.model;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageUploadTiming {
+
+    private String originalFilename;
+    private String fileKey;
+    private long sizeBytes;
+    private long durationMillis;
+}
@@ -9,15 +9,23 @@ public interface AlbumImageRepository {
 
     AlbumImage save(AlbumImage albumImage);
 
+    List<AlbumImage> saveAll(List<AlbumImage> albumImages);
+
     Optional<AlbumImage> findById(Long id);
 
     List<AlbumImage> findAll();
 
     List<AlbumImage> findByAlbumId(Long albumId);
 
+    Optional<Long> findAlbumIdById(Long id);
+
     void deleteById(Long id);
 
     boolean existsById(Long id);
 
     void updateIsDefaultByAlbumId(Long albumId, boolean isDefault);
+
+    boolean markAsDefault(Long albumId, Long imageId);
+
+    void markRenditionsReady(String fileKey);
 }
@@ -0,0 +1,50 @@
+package com.anthony.backend.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class UploadExecutorConfig {
+
+    @Value("${upload.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${upload.executor.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${image.renditions.executor.pool-size:2}")
+    private int renditionPoolSize;
+
+    @Value("${image.renditions.executor.queue-capacity:200}")
+    private int renditionQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        // Com a fila cheia o upload roda na thread da requisição, limitando a carga sem rejeitar arquivos
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageRenditionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(renditionPoolSize);
+        executor.setMaxPoolSize(renditionPoolSize);
+        executor.setQueueCapacity(renditionQueueCapacity);
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
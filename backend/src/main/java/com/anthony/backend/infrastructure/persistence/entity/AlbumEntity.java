@@ -2,11 +2,15 @@ package com.anthony.backend.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog_album")
 @Table(name = "album")
 @Getter
 @Setter
@@ -16,7 +20,8 @@ import java.util.List;
 public class AlbumEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "album_seq")
+    @SequenceGenerator(name = "album_seq", sequenceName = "album_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -27,6 +32,7 @@ public class AlbumEntity {
     private ArtistEntity artist;
 
     @OneToMany(mappedBy = "album", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog_album_images")
     @Builder.Default
     private List<AlbumImageEntity> images = new ArrayList<>();
 }
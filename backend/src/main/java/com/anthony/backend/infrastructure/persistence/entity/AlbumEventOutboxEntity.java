@@ -0,0 +1,45 @@
+package com.anthony.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "album_event_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlbumEventOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sequence;
+
+    // Atribuída pelo relay na ordem de publicação; é a sequência exposta aos clientes
+    @Column(name = "publish_sequence", unique = true)
+    private Long publishSequence;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "album_id", nullable = false)
+    private Long albumId;
+
+    @Column(name = "title", length = 255)
+    private String title;
+
+    @Column(name = "artist_id")
+    private Long artistId;
+
+    @Column(name = "artist_name", length = 255)
+    private String artistName;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
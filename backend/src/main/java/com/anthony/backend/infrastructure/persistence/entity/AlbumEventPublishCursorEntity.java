@@ -0,0 +1,20 @@
+package com.anthony.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "album_event_publish_cursor")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlbumEventPublishCursorEntity {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+}
@@ -2,8 +2,13 @@ package com.anthony.backend.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog_album_image")
 @Table(name = "album_image")
 @Getter
 @Setter
@@ -13,7 +18,8 @@ import lombok.*;
 public class AlbumImageEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "album_image_seq")
+    @SequenceGenerator(name = "album_image_seq", sequenceName = "album_image_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "file_key", nullable = false, length = 255)
@@ -22,6 +28,10 @@ public class AlbumImageEntity {
     @Column(name = "is_default", nullable = false)
     private Boolean isDefault;
 
+    @ColumnDefault("false")
+    @Column(name = "renditions_ready", nullable = false, insertable = false, updatable = false)
+    private Boolean renditionsReady;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "album_id", nullable = false)
     private AlbumEntity album;
@@ -2,11 +2,15 @@ package com.anthony.backend.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog_artist")
 @Table(name = "artist")
 @Getter
 @Setter
@@ -16,13 +20,15 @@ import java.util.List;
 public class ArtistEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "artist_seq")
+    @SequenceGenerator(name = "artist_seq", sequenceName = "artist_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
     private String name;
 
     @OneToMany(mappedBy = "artist", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog_artist_albums")
     @Builder.Default
     private List<AlbumEntity> albums = new ArrayList<>();
 }
@@ -0,0 +1,36 @@
+package com.anthony.backend.infrastructure.persistence.jpa;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AlbumEventOutboxJpaRepository extends JpaRepository<AlbumEventOutboxEntity, Long> {
+
+    // O lock serializa os relays de réplicas diferentes, preservando a ordem de publicação
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM AlbumEventOutboxEntity e WHERE e.publishedAt IS NULL ORDER BY e.sequence")
+    List<AlbumEventOutboxEntity> findUnpublished(Limit limit);
+
+    long countByPublishedAtIsNull();
+
+    List<AlbumEventOutboxEntity> findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(Long publishSequence, Limit limit);
+
+    List<AlbumEventOutboxEntity> findByPublishSequenceBetweenOrderByPublishSequenceAsc(Long from, Long to, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.publishSequence), 0) FROM AlbumEventOutboxEntity e")
+    long findLastPublishSequence();
+
+    @Modifying
+    @Query("DELETE FROM AlbumEventOutboxEntity e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,20 @@
+package com.anthony.backend.infrastructure.persistence.jpa;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventPublishCursorEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AlbumEventPublishCursorJpaRepository extends JpaRepository<AlbumEventPublishCursorEntity, Integer> {
+
+    // Serializa os relays até o commit: quem obtém o cursor depois enxerga as sequências já publicadas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM AlbumEventPublishCursorEntity c WHERE c.id = :id")
+    Optional<AlbumEventPublishCursorEntity> findForUpdate(@Param("id") Integer id);
+}
@@ -2,13 +2,33 @@ package com.anthony.backend.infrastructure.persistence.jpa;
 
 import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AlbumImageJpaRepository extends JpaRepository<AlbumImageEntity, Long> {
 
     List<AlbumImageEntity> findByAlbumId(Long albumId);
-}
 
+    @Query("SELECT i.album.id FROM AlbumImageEntity i WHERE i.id = :id")
+    Optional<Long> findAlbumIdById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumImageEntity i SET i.isDefault = :isDefault WHERE i.album.id = :albumId")
+    int updateIsDefaultByAlbumId(@Param("albumId") Long albumId, @Param("isDefault") boolean isDefault);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumImageEntity i SET i.isDefault = true WHERE i.id = :imageId AND i.album.id = :albumId")
+    int markAsDefault(@Param("albumId") Long albumId, @Param("imageId") Long imageId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AlbumImageEntity i SET i.renditionsReady = true WHERE i.fileKey = :fileKey")
+    int markRenditionsReady(@Param("fileKey") String fileKey);
+}
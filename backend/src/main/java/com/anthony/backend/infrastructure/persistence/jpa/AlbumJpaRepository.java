@@ -1,17 +1,54 @@
 package com.anthony.backend.infrastructure.persistence.jpa;
 
 import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AlbumJpaRepository extends JpaRepository<AlbumEntity, Long>, JpaSpecificationExecutor<AlbumEntity> {
 
+    int EXPORT_FETCH_SIZE = 500;
+
     List<AlbumEntity> findByArtistId(Long artistId);
 
+    // Projeção: só a chave estrangeira, sem carregar o álbum nem as imagens
+    @Query("SELECT a.artist.id FROM AlbumEntity a WHERE a.id = :id")
+    Optional<Long> findArtistIdById(@Param("id") Long id);
+
+    // Só usa o cache de queries quando hibernate.cache.use_query_cache está ativo (perfil l2cache)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AlbumEntity> findByTitle(String title);
+
+    // Cursor no servidor: o driver busca EXPORT_FETCH_SIZE linhas por vez (exige transação aberta enquanto o Stream é lido)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM AlbumEntity a JOIN FETCH a.artist ORDER BY a.id")
+    Stream<AlbumEntity> streamAllWithArtist();
+
+    @EntityGraph(attributePaths = {"artist", "images"})
+    @Query("SELECT a FROM AlbumEntity a WHERE a.id IN :ids")
+    List<AlbumEntity> findWithArtistAndImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // pattern vem de LikePatterns.contains(term): os curingas digitados pelo usuário são literais
+    @Query(value = """
+            SELECT a.* FROM album a
+            WHERE lower(a.title) % lower(:term) OR lower(a.title) LIKE lower(:pattern) ESCAPE '\\'
+            ORDER BY similarity(lower(a.title), lower(:term)) DESC, a.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<AlbumEntity> searchByTitle(@Param("term") String term, @Param("pattern") String pattern, @Param("limit") int limit);
 }
@@ -1,15 +1,40 @@
 package com.anthony.backend.infrastructure.persistence.jpa;
 
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
 import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ArtistJpaRepository extends JpaRepository<ArtistEntity, Long>, JpaSpecificationExecutor<ArtistEntity> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ArtistEntity> findByName(String name);
-}
 
+    @EntityGraph(attributePaths = {"albums"})
+    @Query("SELECT a FROM ArtistEntity a WHERE a.id IN :ids")
+    List<ArtistEntity> findWithAlbumsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT al FROM AlbumEntity al LEFT JOIN FETCH al.images WHERE al.artist.id IN :artistIds")
+    List<AlbumEntity> findAlbumsWithImagesByArtistIdIn(@Param("artistIds") Collection<Long> artistIds);
+
+    // pattern vem de LikePatterns.contains(term): os curingas digitados pelo usuário são literais
+    @Query(value = """
+            SELECT a.* FROM artist a
+            WHERE lower(a.name) % lower(:term) OR lower(a.name) LIKE lower(:pattern) ESCAPE '\\'
+            ORDER BY similarity(lower(a.name), lower(:term)) DESC, a.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ArtistEntity> searchByName(@Param("term") String term, @Param("pattern") String pattern, @Param("limit") int limit);
+}
@@ -0,0 +1,23 @@
+package com.anthony.backend.infrastructure.persistence.jpa;
+
+public final class LikePatterns {
+
+    // Mesmo caractere declarado em ESCAPE '\' nas queries nativas
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    // Padrão "contém" com \, % e _ do termo tratados como literais (sem isso "_" casaria com qualquer título)
+    public static String contains(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == ESCAPE || c == '%' || c == '_') {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -26,6 +26,16 @@ public class AlbumImageRepositoryImpl implements AlbumImageRepository {
         return albumImageMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<AlbumImage> saveAll(List<AlbumImage> albumImages) {
+        List<AlbumImageEntity> entities = albumImages.stream()
+                .map(albumImageMapper::toEntity)
+                .collect(Collectors.toList());
+        return albumImageJpaRepository.saveAll(entities).stream()
+                .map(albumImageMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<AlbumImage> findById(Long id) {
         return albumImageJpaRepository.findById(id)
@@ -46,6 +56,11 @@ public class AlbumImageRepositoryImpl implements AlbumImageRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<Long> findAlbumIdById(Long id) {
+        return albumImageJpaRepository.findAlbumIdById(id);
+    }
+
     @Override
     public void deleteById(Long id) {
         albumImageJpaRepository.deleteById(id);
@@ -58,9 +73,16 @@ public class AlbumImageRepositoryImpl implements AlbumImageRepository {
 
     @Override
     public void updateIsDefaultByAlbumId(Long albumId, boolean isDefault) {
-        albumImageJpaRepository.findByAlbumId(albumId).forEach(entity -> {
-            entity.setIsDefault(isDefault);
-            albumImageJpaRepository.save(entity);
-        });
+        albumImageJpaRepository.updateIsDefaultByAlbumId(albumId, isDefault);
+    }
+
+    @Override
+    public boolean markAsDefault(Long albumId, Long imageId) {
+        return albumImageJpaRepository.markAsDefault(albumId, imageId) == 1;
+    }
+
+    @Override
+    public void markRenditionsReady(String fileKey) {
+        albumImageJpaRepository.markRenditionsReady(fileKey);
     }
 }
@@ -32,6 +32,10 @@ public class AlbumRepositoryImpl implements AlbumRepository {
                 .map(albumMapper::toDomain);
     }
 
+    public Optional<Long> findArtistIdById(Long id) {
+        return albumJpaRepository.findArtistIdById(id);
+    }
+
     @Override
     public List<Album> findAll() {
         return albumJpaRepository.findAll().stream()
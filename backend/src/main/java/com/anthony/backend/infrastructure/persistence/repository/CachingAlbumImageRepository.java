@@ -0,0 +1,88 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.repository.AlbumImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+// Não guarda imagens em cache; só invalida os álbuns em cache cujas imagens foram alteradas
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class CachingAlbumImageRepository implements AlbumImageRepository {
+
+    private final AlbumImageRepositoryImpl delegate;
+    private final CatalogCache catalogCache;
+
+    @Override
+    public AlbumImage save(AlbumImage albumImage) {
+        evictAlbumOf(albumImage);
+        return delegate.save(albumImage);
+    }
+
+    @Override
+    public List<AlbumImage> saveAll(List<AlbumImage> albumImages) {
+        albumImages.forEach(this::evictAlbumOf);
+        return delegate.saveAll(albumImages);
+    }
+
+    private void evictAlbumOf(AlbumImage albumImage) {
+        if (albumImage.getAlbum() != null) {
+            catalogCache.evictAlbum(albumImage.getAlbum().getId());
+        }
+    }
+
+    @Override
+    public Optional<AlbumImage> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<AlbumImage> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<AlbumImage> findByAlbumId(Long albumId) {
+        return delegate.findByAlbumId(albumId);
+    }
+
+    @Override
+    public Optional<Long> findAlbumIdById(Long id) {
+        return delegate.findAlbumIdById(id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.findAlbumIdById(id).ifPresent(catalogCache::evictAlbum);
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public void updateIsDefaultByAlbumId(Long albumId, boolean isDefault) {
+        delegate.updateIsDefaultByAlbumId(albumId, isDefault);
+        catalogCache.evictAlbum(albumId);
+    }
+
+    @Override
+    public boolean markAsDefault(Long albumId, Long imageId) {
+        boolean marked = delegate.markAsDefault(albumId, imageId);
+        catalogCache.evictAlbum(albumId);
+        return marked;
+    }
+
+    @Override
+    public void markRenditionsReady(String fileKey) {
+        delegate.markRenditionsReady(fileKey);
+        catalogCache.evictAlbumsByImageFileKey(fileKey);
+    }
+}
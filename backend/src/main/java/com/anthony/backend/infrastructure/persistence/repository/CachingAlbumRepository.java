@@ -0,0 +1,73 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.domain.repository.AlbumRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class CachingAlbumRepository implements AlbumRepository {
+
+    private final AlbumRepositoryImpl delegate;
+    private final CatalogCache catalogCache;
+
+    @Override
+    public Album save(Album album) {
+        // Ao trocar de artista, tanto o anterior (conhecido pelo cache ou pelo banco) quanto o novo são invalidados
+        if (album.getId() != null) {
+            previousArtistId(album.getId()).ifPresent(catalogCache::evictArtist);
+        }
+
+        Album saved = delegate.save(album);
+        catalogCache.evictAlbum(saved.getId());
+        if (saved.getArtist() != null) {
+            catalogCache.evictArtist(saved.getArtist().getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Album> findById(Long id) {
+        return catalogCache.findAlbum(id, delegate::findById);
+    }
+
+    @Override
+    public List<Album> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Album> findByArtistId(Long artistId) {
+        return delegate.findByArtistId(artistId);
+    }
+
+    @Override
+    public Optional<Album> findByTitle(String title) {
+        return delegate.findByTitle(title);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        previousArtistId(id).ifPresent(catalogCache::evictArtist);
+
+        delegate.deleteById(id);
+        catalogCache.evictAlbum(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    // O álbum em cache é invalidado a cada escrita, então o artista dele é o atual; só consulta o banco (projeção) quando não está em cache
+    private Optional<Long> previousArtistId(Long albumId) {
+        return catalogCache.cachedArtistIdOfAlbum(albumId)
+                .or(() -> delegate.findArtistIdById(albumId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.domain.model.Artist;
+import com.anthony.backend.domain.repository.ArtistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class CachingArtistRepository implements ArtistRepository {
+
+    private final ArtistRepositoryImpl delegate;
+    private final CatalogCache catalogCache;
+
+    @Override
+    public Artist save(Artist artist) {
+        Artist saved = delegate.save(artist);
+        catalogCache.evictArtist(saved.getId());
+        catalogCache.evictAlbumsByArtist(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Artist> findById(Long id) {
+        return catalogCache.findArtist(id, delegate::findById);
+    }
+
+    @Override
+    public List<Artist> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<Artist> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        catalogCache.evictArtist(id);
+        catalogCache.evictAlbumsByArtist(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+}
@@ -0,0 +1,171 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.model.Artist;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.function.Function;
+
+// Cache de leitura de álbuns e artistas por ID, compartilhado pelos repositórios decorados.
+// Os objetos de domínio são mutáveis (os serviços preenchem URLs e alteram vínculos), então cada leitura devolve uma cópia.
+@Component
+public class CatalogCache {
+
+    private final Cache<Long, Album> albums;
+    private final Cache<Long, Artist> artists;
+
+    public CatalogCache(MeterRegistry meterRegistry,
+                        @Value("${catalog.cache.ttl:5m}") Duration ttl,
+                        @Value("${catalog.cache.max-size:10000}") long maxSize) {
+        this.albums = ttl.isZero() ? null : build(ttl, maxSize);
+        this.artists = ttl.isZero() ? null : build(ttl, maxSize);
+
+        if (albums != null) {
+            monitor(meterRegistry, albums, "albums");
+            monitor(meterRegistry, artists, "artists");
+        }
+    }
+
+    private static <V> Cache<Long, V> build(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static void monitor(MeterRegistry meterRegistry, Cache<Long, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog." + name);
+        Gauge.builder("catalog.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public Optional<Album> findAlbum(Long id, Function<Long, Optional<Album>> loader) {
+        return find(albums, id, loader).map(CatalogCache::copy);
+    }
+
+    public Optional<Artist> findArtist(Long id, Function<Long, Optional<Artist>> loader) {
+        return find(artists, id, loader).map(CatalogCache::copy);
+    }
+
+    // Dentro de uma transação de escrita o cache é ignorado: a leitura pode enxergar dados ainda não confirmados
+    // e as alterações seguintes precisam partir do estado atual do banco
+    private static <V> Optional<V> find(Cache<Long, V> cache, Long id, Function<Long, Optional<V>> loader) {
+        if (cache == null || id == null || insideReadWriteTransaction()) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    private static boolean insideReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public void evictAlbum(Long id) {
+        if (albums != null && id != null) {
+            evict(() -> albums.invalidate(id));
+        }
+    }
+
+    public void evictArtist(Long id) {
+        if (artists != null && id != null) {
+            evict(() -> artists.invalidate(id));
+        }
+    }
+
+    // Os álbuns em cache carregam o nome do artista, então mudanças no artista invalidam seus álbuns
+    public void evictAlbumsByArtist(Long artistId) {
+        if (albums != null && artistId != null) {
+            evict(() -> albums.asMap().values().removeIf(album ->
+                    album.getArtist() != null && artistId.equals(album.getArtist().getId())));
+        }
+    }
+
+    public void evictAlbumsByImageFileKey(String fileKey) {
+        if (albums != null && fileKey != null) {
+            evict(() -> albums.asMap().values().removeIf(album -> album.getImages() != null
+                    && album.getImages().stream().anyMatch(image -> fileKey.equals(image.getFileKey()))));
+        }
+    }
+
+    public Optional<Long> cachedArtistIdOfAlbum(Long albumId) {
+        if (albums == null || albumId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(albums.getIfPresent(albumId))
+                .map(Album::getArtist)
+                .map(Artist::getId);
+    }
+
+    // Invalida já e de novo ao fim da transação, para descartar o que outra leitura tenha recarregado antes do commit
+    private static void evict(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    static Album copy(Album album) {
+        Album copy = Album.builder()
+                .id(album.getId())
+                .title(album.getTitle())
+                .artist(album.getArtist() == null ? null : Artist.builder()
+                        .id(album.getArtist().getId())
+                        .name(album.getArtist().getName())
+                        .build())
+                .build();
+        if (album.getImages() != null) {
+            album.getImages().forEach(image -> copy.getImages().add(copy(image)));
+        } else {
+            copy.setImages(null);
+        }
+        return copy;
+    }
+
+    private static AlbumImage copy(AlbumImage image) {
+        return AlbumImage.builder()
+                .id(image.getId())
+                .fileKey(image.getFileKey())
+                .fileUrl(image.getFileUrl())
+                .isDefault(image.getIsDefault())
+                .renditionsReady(image.getRenditionsReady())
+                .renditionUrls(image.getRenditionUrls() == null ? null : new HashMap<>(image.getRenditionUrls()))
+                .build();
+    }
+
+    static Artist copy(Artist artist) {
+        Artist copy = Artist.builder()
+                .id(artist.getId())
+                .name(artist.getName())
+                .albums(new ArrayList<>())
+                .build();
+        if (artist.getAlbums() != null) {
+            artist.getAlbums().forEach(album -> {
+                Album albumCopy = copy(album);
+                albumCopy.setArtist(copy);
+                copy.getAlbums().add(albumCopy);
+            });
+        }
+        return copy;
+    }
+}
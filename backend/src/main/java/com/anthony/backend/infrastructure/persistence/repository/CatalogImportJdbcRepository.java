@@ -0,0 +1,96 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Escrita em massa do catálogo via JDBC em lote, sem passar pelo contexto de persistência
+@Repository
+public class CatalogImportJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+    private final String nextArtistId;
+    private final String nextAlbumId;
+
+    public CatalogImportJdbcRepository(JdbcTemplate jdbcTemplate,
+                                       NamedParameterJdbcTemplate namedJdbcTemplate,
+                                       EntityManagerFactory entityManagerFactory,
+                                       @Value("${catalog.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+
+        // As colunas de ID não têm default no schema gerado pelo Hibernate: o valor vem da sequência, na sintaxe do dialeto
+        SequenceSupport sequences = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        this.nextArtistId = sequences.getSelectSequenceNextValString("artist_id_seq");
+        this.nextAlbumId = sequences.getSelectSequenceNextValString("album_id_seq");
+    }
+
+    public Map<String, Long> findArtistIdsByName(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+
+        namedJdbcTemplate.query("SELECT name, MIN(id) AS id FROM artist WHERE name IN (:names) GROUP BY name",
+                Map.of("names", names),
+                rs -> {
+                    ids.put(rs.getString("name"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    public void insertArtists(Collection<String> names) {
+        jdbcTemplate.batchUpdate("INSERT INTO artist (id, name) VALUES (" + nextArtistId + ", ?)", List.copyOf(names), batchSize,
+                (ps, name) -> ps.setString(1, name));
+    }
+
+    // Títulos em minúsculas, na mesma regra de unicidade de Artist.addAlbum
+    public Map<Long, Set<String>> findAlbumTitlesByArtistIds(Collection<Long> artistIds) {
+        Map<Long, Set<String>> titles = new HashMap<>();
+        if (artistIds.isEmpty()) {
+            return titles;
+        }
+
+        artistIds.forEach(artistId -> titles.put(artistId, new HashSet<>()));
+        namedJdbcTemplate.query("SELECT artist_id, title FROM album WHERE artist_id IN (:artistIds)",
+                Map.of("artistIds", artistIds),
+                rs -> {
+                    titles.get(rs.getLong("artist_id")).add(rs.getString("title").toLowerCase());
+                });
+        return titles;
+    }
+
+    public void insertAlbums(List<Map.Entry<Long, String>> artistIdAndTitles) {
+        jdbcTemplate.batchUpdate("INSERT INTO album (id, artist_id, title) VALUES (" + nextAlbumId + ", ?, ?)", artistIdAndTitles, batchSize,
+                (ps, album) -> {
+                    ps.setLong(1, album.getKey());
+                    ps.setString(2, album.getValue());
+                });
+    }
+
+    // Inserções via JDBC não passam pelo Hibernate: descarta as coleções de álbuns e as queries em cache (perfil l2cache)
+    public void evictSecondLevelCache() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictCollectionData(ArtistEntity.class.getName() + ".albums");
+        cache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,77 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+public class RowCountEstimator {
+
+    private static final String PLANNER_ESTIMATE_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadingCache<CountKey, Long> cachedCounts;
+    private final long plannerRetryAfterNanos;
+    // Após uma falha, o planner só é consultado de novo depois do intervalo de retry; 0 = disponível
+    private volatile long plannerRetryAtNanos;
+
+    public RowCountEstimator(JdbcTemplate jdbcTemplate,
+                             @Value("${pagination.count-estimate.planner-retry-after:1m}") Duration plannerRetryAfter,
+                             @Value("${pagination.count-estimate.refresh-after:1m}") Duration refreshAfter,
+                             @Value("${pagination.count-estimate.expire-after:10m}") Duration expireAfter,
+                             @Value("${pagination.count-estimate.max-size:1000}") long maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.plannerRetryAfterNanos = plannerRetryAfter.toNanos();
+        this.cachedCounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .build(key -> key.counter().getAsLong());
+    }
+
+    public long estimateTable(String table, LongSupplier exactCount) {
+        long retryAt = plannerRetryAtNanos;
+        if (retryAt == 0 || System.nanoTime() - retryAt >= 0) {
+            try {
+                Long reltuples = jdbcTemplate.queryForObject(PLANNER_ESTIMATE_SQL, Long.class, table);
+                // reltuples = -1 indica tabela ainda não analisada pelo VACUUM/ANALYZE
+                plannerRetryAtNanos = 0;
+                if (reltuples != null && reltuples >= 0) {
+                    return reltuples;
+                }
+            } catch (DataAccessException e) {
+                // Falhas transitórias não desligam o planner até o restart: nova tentativa após o intervalo
+                plannerRetryAtNanos = System.nanoTime() + plannerRetryAfterNanos;
+                log.warn("Estatísticas do planner indisponíveis, usando contagem em cache por {} ms: {}",
+                        plannerRetryAfterNanos / 1_000_000, e.getMessage());
+            }
+        }
+        return estimate(table, exactCount);
+    }
+
+    public long estimate(String key, LongSupplier exactCount) {
+        return cachedCounts.get(new CountKey(key, exactCount));
+    }
+
+    private record CountKey(String key, LongSupplier counter) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountKey countKey && key.equals(countKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import io.github.bucket4j.BucketExceptions;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.AbstractSelectForUpdateBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.LockAndGetResult;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.SelectForUpdateBasedTransaction;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+// Equivalente ao PostgreSQLSelectForUpdateBasedProxyManager do bucket4j, mas sem o "ON CONFLICT",
+// para que o mesmo código rode no PostgreSQL e no H2 usado nos testes
+class JdbcBucketProxyManager extends AbstractSelectForUpdateBasedProxyManager<String> {
+
+    private static final String SELECT_SQL = "SELECT state FROM rate_limit_bucket WHERE id = ? FOR UPDATE";
+    private static final String INSERT_SQL = "INSERT INTO rate_limit_bucket(id, state) VALUES(?, null)";
+    private static final String UPDATE_SQL = "UPDATE rate_limit_bucket SET state = ?, expires_at = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM rate_limit_bucket WHERE id = ?";
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM rate_limit_bucket WHERE id IN (SELECT id FROM rate_limit_bucket WHERE expires_at < ? LIMIT ?)";
+    private static final String INTEGRITY_VIOLATION_CLASS = "23";
+
+    private final DataSource dataSource;
+    private final ExpirationAfterWriteStrategy expiration;
+
+    JdbcBucketProxyManager(DataSource dataSource, ExpirationAfterWriteStrategy expiration) {
+        super(ClientSideConfig.getDefault());
+        this.dataSource = dataSource;
+        this.expiration = expiration;
+    }
+
+    @Override
+    protected SelectForUpdateBasedTransaction allocateTransaction(String key) {
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new BucketExceptions.BucketExecutionException(e);
+        }
+
+        return new SelectForUpdateBasedTransaction() {
+
+            @Override
+            public void begin() {
+                try {
+                    connection.setAutoCommit(false);
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void rollback() {
+                try {
+                    connection.rollback();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void commit() {
+                try {
+                    connection.commit();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public LockAndGetResult tryLockAndGet() {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_SQL)) {
+                    statement.setString(1, key);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        return resultSet.next() ? LockAndGetResult.locked(resultSet.getBytes(1)) : LockAndGetResult.notLocked();
+                    }
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public boolean tryInsertEmptyData() {
+                // O savepoint evita que uma chave duplicada inserida por outra réplica aborte a transação no PostgreSQL
+                Savepoint savepoint = null;
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                    savepoint = connection.setSavepoint();
+                    statement.setString(1, key);
+                    statement.executeUpdate();
+                    return true;
+                } catch (SQLException e) {
+                    if (savepoint != null && e.getSQLState() != null && e.getSQLState().startsWith(INTEGRITY_VIOLATION_CLASS)) {
+                        rollbackTo(savepoint);
+                        return false;
+                    }
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void update(byte[] data, RemoteBucketState newState) {
+                // O bucket4j 8.7 não grava expiração nos proxy managers JDBC; o instante é calculado aqui
+                long nowMillis = System.currentTimeMillis();
+                long expiresAt = nowMillis + expiration.calculateTimeToLiveMillis(newState, nowMillis * 1_000_000);
+                try (PreparedStatement statement = connection.prepareStatement(UPDATE_SQL)) {
+                    statement.setBytes(1, data);
+                    statement.setLong(2, expiresAt);
+                    statement.setString(3, key);
+                    statement.executeUpdate();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void release() {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            private void rollbackTo(Savepoint savepoint) {
+                try {
+                    connection.rollback(savepoint);
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+        };
+    }
+
+    // Remove em lotes para não manter um DELETE longo sobre a tabela inteira
+    int removeExpired(long nowMillis, int batchSize) {
+        int total = 0;
+        int removed;
+        do {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(DELETE_EXPIRED_SQL)) {
+                statement.setLong(1, nowMillis);
+                statement.setInt(2, batchSize);
+                removed = statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new BucketExceptions.BucketExecutionException(e);
+            }
+            total += removed;
+        } while (removed == batchSize);
+        return total;
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_SQL)) {
+            statement.setString(1, key);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new BucketExceptions.BucketExecutionException(e);
+        }
+    }
+}
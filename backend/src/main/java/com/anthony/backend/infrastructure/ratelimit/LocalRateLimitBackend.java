@@ -0,0 +1,18 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    @Override
+    public Bucket createBucket(String key, BucketConfiguration configuration) {
+        return Bucket.builder()
+                .addLimit(configuration.getBandwidths()[0])
+                .build();
+    }
+}
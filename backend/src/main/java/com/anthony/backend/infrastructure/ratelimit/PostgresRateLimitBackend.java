@@ -0,0 +1,70 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "postgres")
+public class PostgresRateLimitBackend implements RateLimitBackend {
+
+    private final JdbcBucketProxyManager proxyManager;
+    private final long maxUnsynchronizedTokens;
+    private final double maxUnsynchronizedFraction;
+    private final Duration maxUnsynchronizedTimeout;
+    private final int cleanupBatchSize;
+
+    public PostgresRateLimitBackend(DataSource dataSource,
+                                    @Value("${rate-limit.postgres.sync.max-unsynchronized-tokens:5}") long maxUnsynchronizedTokens,
+                                    @Value("${rate-limit.postgres.sync.max-unsynchronized-fraction:0.1}") double maxUnsynchronizedFraction,
+                                    @Value("${rate-limit.postgres.sync.max-unsynchronized-timeout:1s}") Duration maxUnsynchronizedTimeout,
+                                    @Value("${rate-limit.postgres.keep-after-refill:1m}") Duration keepAfterRefill,
+                                    @Value("${rate-limit.postgres.cleanup.batch-size:1000}") int cleanupBatchSize) {
+        // A linha de um bucket expira quando ele já estaria cheio de novo: removê-la equivale a recriá-lo cheio
+        this.proxyManager = new JdbcBucketProxyManager(dataSource,
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(keepAfterRefill));
+        this.maxUnsynchronizedTokens = maxUnsynchronizedTokens;
+        this.maxUnsynchronizedFraction = maxUnsynchronizedFraction;
+        this.maxUnsynchronizedTimeout = maxUnsynchronizedTimeout;
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    @Override
+    public Bucket createBucket(String key, BucketConfiguration configuration) {
+        RemoteBucketBuilder<String> builder = proxyManager.builder();
+        long threshold = unsynchronizedThreshold(configuration);
+        if (threshold > 0) {
+            builder = builder.withOptimization(Optimizations.delaying(new DelayParameters(threshold, maxUnsynchronizedTimeout)));
+        }
+        return builder.build(key, () -> configuration);
+    }
+
+    // Cada réplica consome até N tokens localmente antes de sincronizar, então o excesso global chega a N por réplica.
+    // N é limitado a uma fração da menor capacidade; buckets pequenos (ex.: upload) sincronizam em toda requisição.
+    long unsynchronizedThreshold(BucketConfiguration configuration) {
+        long minCapacity = Arrays.stream(configuration.getBandwidths()).mapToLong(Bandwidth::getCapacity).min().orElse(0);
+        return Math.min(maxUnsynchronizedTokens, (long) Math.floor(minCapacity * maxUnsynchronizedFraction));
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.postgres.cleanup.interval:10m}")
+    public void removeExpired() {
+        int removed = proxyManager.removeExpired(System.currentTimeMillis(), cleanupBatchSize);
+        if (removed > 0) {
+            log.info("{} buckets de rate limit expirados removidos", removed);
+        }
+    }
+}
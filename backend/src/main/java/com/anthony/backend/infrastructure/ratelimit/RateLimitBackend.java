@@ -0,0 +1,9 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+public interface RateLimitBackend {
+
+    Bucket createBucket(String key, BucketConfiguration configuration);
+}
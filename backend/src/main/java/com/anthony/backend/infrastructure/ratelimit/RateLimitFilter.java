@@ -1,26 +1,63 @@
 package com.anthony.backend.infrastructure.ratelimit;
 
-import io.github.bucket4j.Bucket;
+import com.anthony.backend.domain.model.User;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    private static final String ADMIN_AUTHORITY = "ROLE_" + User.Role.ADMIN.name();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Valores pequenos (tokens restantes, segundos até o reabastecimento) são formatados uma única vez
+    private static final int CACHED_NUMBERS = 1024;
+    private static final String[] NUMBER_STRINGS = new String[CACHED_NUMBERS];
+    private static final byte[][] NUMBER_BYTES = new byte[CACHED_NUMBERS][];
+
+    // Corpo da rejeição pré-serializado; só os segundos de espera variam entre as partes
+    private static final byte[] REJECTION_PREFIX =
+            "{\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded. Try again in ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REJECTION_MIDDLE = " seconds.\",\"retryAfter\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REJECTION_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        for (int i = 0; i < CACHED_NUMBERS; i++) {
+            NUMBER_STRINGS[i] = Integer.toString(i);
+            NUMBER_BYTES[i] = NUMBER_STRINGS[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
     private final RateLimitService rateLimitService;
+    private final Map<RateLimitGroup, Map<User.Role, String>> limitHeaders = new EnumMap<>(RateLimitGroup.class);
+
+    public RateLimitFilter(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            Map<User.Role, String> byRole = new EnumMap<>(User.Role.class);
+            for (User.Role role : User.Role.values()) {
+                byRole.put(role, Long.toString(rateLimitService.getCapacity(role, group)));
+            }
+            limitHeaders.put(group, byRole);
+        }
+    }
 
     @Override
     protected void doFilterInternal(
@@ -37,27 +74,51 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        String username = authentication.getName();
-        Bucket bucket = rateLimitService.resolveBucket(username);
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        User.Role role = resolveRole(authentication);
+        RateLimitGroup group = RateLimitGroup.of(request);
+        ConsumptionProbe probe = rateLimitService.tryConsume(authentication.getName(), role, group);
+        String limit = limitHeaders.get(group).get(role);
 
         if (probe.isConsumed()) {
-            response.addHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
-            response.addHeader("X-Rate-Limit-Limit", "10");
-            response.addHeader("X-Rate-Limit-Reset", String.valueOf(probe.getNanosToWaitForRefill() / 1_000_000_000));
+            response.addHeader("X-Rate-Limit-Remaining", toHeaderValue(probe.getRemainingTokens()));
+            response.addHeader("X-Rate-Limit-Limit", limit);
+            response.addHeader("X-Rate-Limit-Reset", toHeaderValue(probe.getNanosToWaitForRefill() / NANOS_PER_SECOND));
             filterChain.doFilter(request, response);
         } else {
-            long waitForRefill = probe.getNanosToWaitForRefill() / 1_000_000_000;
+            long waitForRefill = probe.getNanosToWaitForRefill() / NANOS_PER_SECOND;
+            byte[] waitBytes = toBytes(waitForRefill);
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType("application/json");
-            response.addHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(waitForRefill));
-            response.addHeader("X-Rate-Limit-Remaining", "0");
-            response.addHeader("X-Rate-Limit-Limit", "10");
-            response.getWriter().write(String.format(
-                    "{\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded. Try again in %d seconds.\",\"retryAfter\":%d}",
-                    waitForRefill, waitForRefill
-            ));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(REJECTION_PREFIX.length + REJECTION_MIDDLE.length + REJECTION_SUFFIX.length + 2 * waitBytes.length);
+            response.addHeader("X-Rate-Limit-Retry-After-Seconds", toHeaderValue(waitForRefill));
+            response.addHeader("X-Rate-Limit-Remaining", NUMBER_STRINGS[0]);
+            response.addHeader("X-Rate-Limit-Limit", limit);
+
+            OutputStream body = response.getOutputStream();
+            body.write(REJECTION_PREFIX);
+            body.write(waitBytes);
+            body.write(REJECTION_MIDDLE);
+            body.write(waitBytes);
+            body.write(REJECTION_SUFFIX);
         }
     }
-}
 
+    private static String toHeaderValue(long value) {
+        return value >= 0 && value < CACHED_NUMBERS ? NUMBER_STRINGS[(int) value] : Long.toString(value);
+    }
+
+    private static byte[] toBytes(long value) {
+        return value >= 0 && value < CACHED_NUMBERS
+                ? NUMBER_BYTES[(int) value]
+                : Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static User.Role resolveRole(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ADMIN_AUTHORITY.equals(authority.getAuthority())) {
+                return User.Role.ADMIN;
+            }
+        }
+        return User.Role.USER;
+    }
+}
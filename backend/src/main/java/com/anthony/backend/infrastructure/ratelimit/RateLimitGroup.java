@@ -0,0 +1,30 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public enum RateLimitGroup {
+
+    DEFAULT,
+    SEARCH,
+    UPLOAD;
+
+    private final String propertyName = name().toLowerCase();
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public static RateLimitGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+
+        if (path.endsWith("/search")) {
+            return SEARCH;
+        }
+
+        if (path.endsWith("/images") && "POST".equals(request.getMethod())) {
+            return UPLOAD;
+        }
+
+        return DEFAULT;
+    }
+}
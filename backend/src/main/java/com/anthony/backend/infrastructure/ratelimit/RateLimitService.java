@@ -1,28 +1,118 @@
 package com.anthony.backend.infrastructure.ratelimit;
 
+import com.anthony.backend.domain.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class RateLimitService {
 
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private static final long DEFAULT_CAPACITY = 10;
+    private static final Duration DEFAULT_PERIOD = Duration.ofMinutes(1);
 
-    public Bucket resolveBucket(String username) {
-        return cache.computeIfAbsent(username, k -> createNewBucket());
+    private final Map<RateLimitGroup, Map<User.Role, BucketConfiguration>> limits = new EnumMap<>(RateLimitGroup.class);
+    private final Map<RateLimitGroup, Counter> rejections = new EnumMap<>(RateLimitGroup.class);
+    private final Cache<BucketKey, Bucket> buckets;
+    private final RateLimitBackend backend;
+
+    public RateLimitService(Environment environment,
+                            MeterRegistry meterRegistry,
+                            RateLimitBackend backend,
+                            @Value("${rate-limit.store.max-size:100000}") long maxSize,
+                            @Value("${rate-limit.store.expire-after-access:10m}") Duration expireAfterAccess) {
+        this.backend = backend;
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            Map<User.Role, BucketConfiguration> byRole = new EnumMap<>(User.Role.class);
+            for (User.Role role : User.Role.values()) {
+                Bandwidth limit = resolveLimit(environment, group, role);
+                // Um bucket ocioso que expira antes de reabastecer devolveria a cota cheia antes da hora
+                if (expireAfterAccess.toNanos() < limit.getRefillPeriodNanos()) {
+                    throw new IllegalArgumentException("rate-limit.store.expire-after-access deve ser maior ou igual ao período de todos os limites");
+                }
+                byRole.put(role, BucketConfiguration.builder().addLimit(limit).build());
+            }
+            limits.put(group, byRole);
+            rejections.put(group, Counter.builder("rate.limit.rejections")
+                    .tag("group", group.getPropertyName())
+                    .register(meterRegistry));
+        }
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit.buckets");
+    }
+
+    public ConsumptionProbe tryConsume(String username, User.Role role, RateLimitGroup group) {
+        BucketConfiguration configuration = limits.get(group).get(role);
+        Bucket bucket = buckets.get(new BucketKey(username, role, group), key -> backend.createBucket(key.toStorageKey(), configuration));
+
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (!probe.isConsumed()) {
+            rejections.get(group).increment();
+        }
+        return probe;
+    }
+
+    public long getCapacity(User.Role role, RateLimitGroup group) {
+        return limits.get(group).get(role).getBandwidths()[0].getCapacity();
     }
 
-    private Bucket createNewBucket() {
-        Bandwidth limit = Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1)));
-        return Bucket.builder()
-                .addLimit(limit)
+    // Procura do mais específico para o mais genérico:
+    // rate-limit.<grupo>.<role>, rate-limit.<grupo>, rate-limit.default.<role>, rate-limit.default
+    private static Bandwidth resolveLimit(Environment environment, RateLimitGroup group, User.Role role) {
+        String roleName = role.name().toLowerCase();
+        String[] prefixes = {
+                "rate-limit." + group.getPropertyName() + "." + roleName,
+                "rate-limit." + group.getPropertyName(),
+                "rate-limit.default." + roleName,
+                "rate-limit.default"
+        };
+
+        long capacity = DEFAULT_CAPACITY;
+        Duration period = DEFAULT_PERIOD;
+        for (int i = prefixes.length - 1; i >= 0; i--) {
+            capacity = environment.getProperty(prefixes[i] + ".capacity", Long.class, capacity);
+            String configuredPeriod = environment.getProperty(prefixes[i] + ".period");
+            if (configuredPeriod != null) {
+                period = DurationStyle.detectAndParse(configuredPeriod);
+            }
+        }
+
+        if (capacity <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Limite inválido para " + prefixes[0] + ": capacidade e período devem ser positivos");
+        }
+
+        return Bandwidth.builder()
+                .capacity(capacity)
+                .refillIntervally(capacity, period)
                 .build();
     }
-}
 
+    private record BucketKey(String username, User.Role role, RateLimitGroup group) {
+
+        String toStorageKey() {
+            return group.getPropertyName() + ":" + role.name().toLowerCase() + ":" + username;
+        }
+    }
+}
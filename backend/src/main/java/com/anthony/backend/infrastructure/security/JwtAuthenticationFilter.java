@@ -1,11 +1,12 @@
 package com.anthony.backend.infrastructure.security;
 
-import com.anthony.backend.domain.repository.UserRepository;
+import com.anthony.backend.domain.model.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,13 +16,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final boolean statelessPrincipal;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsCache userDetailsCache,
+                                   @Value("${security.jwt.stateless-principal:false}") boolean statelessPrincipal) {
+        this.jwtService = jwtService;
+        this.userDetailsCache = userDetailsCache;
+        this.statelessPrincipal = statelessPrincipal;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -53,13 +66,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String username = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.verifyToken(jwt).orElse(null);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userRepository.findByUsername(username)
-                        .orElse(null);
+            if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = statelessPrincipal
+                        ? principalFromClaims(claims)
+                        : userDetailsCache.findByUsername(claims.getSubject()).orElse(null);
 
-                if (userDetails != null && jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -75,4 +89,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Monta o usuário só com as claims assinadas do access token, sem consultar o banco.
+    // Refresh tokens não carregam authorities e por isso não autenticam requisições neste modo.
+    private UserDetails principalFromClaims(Claims claims) {
+        if (!"ACCESS".equals(claims.get("type", String.class))) {
+            return null;
+        }
+
+        List<?> authorities = claims.get("authorities", List.class);
+        if (authorities == null) {
+            return null;
+        }
+
+        return authorities.stream()
+                .map(String::valueOf)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .filter(role -> Arrays.stream(User.Role.values()).anyMatch(value -> value.name().equals(role)))
+                .findFirst()
+                .map(role -> User.builder()
+                        .username(claims.getSubject())
+                        .role(User.Role.valueOf(role))
+                        .build())
+                .orElse(null);
+    }
+}
@@ -1,6 +1,11 @@
 package com.anthony.backend.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -10,22 +15,48 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
-    private String secretKey;
-
-    @Value("${jwt.expiration:300000}")
-    private long jwtExpiration;
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+    private final Cache<String, Claims> verifiedClaimsCache;
+
+    public JwtService(@Value("${jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}") String secretKey,
+                      @Value("${jwt.expiration:300000}") long jwtExpiration,
+                      @Value("${jwt.refresh-expiration:1800000}") long refreshExpiration,
+                      @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser().verifyWith(signInKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        // Cada entrada expira junto com o token, então o cache nunca devolve claims de um token vencido
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(Expiry.creating((String tokenHash, Claims claims) -> timeUntilExpiration(claims)))
+                .build();
+    }
 
-    @Value("${jwt.refresh-expiration:1800000}")
-    private long refreshExpiration;
+    public Optional<Claims> verifyToken(String token) {
+        try {
+            return Optional.of(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -54,34 +85,36 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return verifyToken(token)
+                .map(claims -> userDetails.getUsername().equals(claims.getSubject()))
+                .orElse(false);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Claims extractAllClaims(String token) {
+        return verifiedClaimsCache.get(hash(token), tokenHash -> jwtParser.parseSignedClaims(token).getPayload());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static Duration timeUntilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long remaining = expiration.getTime() - System.currentTimeMillis();
+        return remaining > 0 ? Duration.ofMillis(remaining) : Duration.ZERO;
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
     }
 
     public String generateAccessToken(UserDetails userDetails) {
@@ -0,0 +1,50 @@
+package com.anthony.backend.infrastructure.security;
+
+import com.anthony.backend.domain.model.User;
+import com.anthony.backend.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class UserDetailsCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> users;
+
+    public UserDetailsCache(UserRepository userRepository,
+                            @Value("${security.user-cache.ttl:60s}") Duration ttl,
+                            @Value("${security.user-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.users = ttl.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<User> findByUsername(String username) {
+        if (users == null) {
+            return userRepository.findByUsername(username);
+        }
+
+        User cached = users.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Usuários inexistentes não são armazenados, para que um cadastro novo seja visto imediatamente
+        Optional<User> user = userRepository.findByUsername(username);
+        user.ifPresent(found -> users.put(username, found));
+        return user;
+    }
+
+    public void evict(String username) {
+        if (users != null) {
+            users.invalidate(username);
+        }
+    }
+}
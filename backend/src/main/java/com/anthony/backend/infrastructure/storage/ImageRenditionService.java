@@ -0,0 +1,170 @@
+package com.anthony.backend.infrastructure.storage;
+
+import com.anthony.backend.domain.exception.InvalidRenditionSizeExceptionHandler;
+import com.anthony.backend.domain.exception.StorageExceptionHandler;
+import com.anthony.backend.domain.repository.AlbumImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Service
+public class ImageRenditionService {
+
+    private final MinioStorageService minioStorageService;
+    private final AlbumImageRepository albumImageRepository;
+    private final Executor imageRenditionExecutor;
+    private final List<Integer> sizes;
+    private final float jpegQuality;
+
+    public ImageRenditionService(MinioStorageService minioStorageService,
+                                 AlbumImageRepository albumImageRepository,
+                                 @Qualifier("imageRenditionExecutor") Executor imageRenditionExecutor,
+                                 @Value("${image.renditions.sizes:128,512,1024}") List<Integer> sizes,
+                                 @Value("${image.renditions.jpeg-quality:0.85}") float jpegQuality) {
+        this.minioStorageService = minioStorageService;
+        this.albumImageRepository = albumImageRepository;
+        this.imageRenditionExecutor = imageRenditionExecutor;
+        this.sizes = sizes.stream().sorted().toList();
+        this.jpegQuality = jpegQuality;
+    }
+
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    public void validateSize(Integer size) {
+        if (size != null && !sizes.contains(size)) {
+            throw new InvalidRenditionSizeExceptionHandler(size, sizes);
+        }
+    }
+
+    public static String renditionKey(String fileKey, int size) {
+        int dot = fileKey.lastIndexOf('.');
+        int slash = fileKey.lastIndexOf('/');
+        String base = dot > slash ? fileKey.substring(0, dot) : fileKey;
+        return String.format("%s_%d.%s", base, size, isPng(fileKey) ? "png" : "jpg");
+    }
+
+    public void generateAsync(Collection<String> fileKeys) {
+        for (String fileKey : fileKeys) {
+            try {
+                imageRenditionExecutor.execute(() -> generateSafely(fileKey));
+            } catch (TaskRejectedException e) {
+                log.warn("Fila de geração de miniaturas cheia, {} continuará servindo o original", fileKey);
+            }
+        }
+    }
+
+    public void generate(String fileKey) {
+        BufferedImage original = read(minioStorageService.downloadFile(fileKey), fileKey);
+        boolean png = isPng(fileKey);
+
+        for (Integer size : sizes) {
+            BufferedImage resized = resize(original, size, png);
+            minioStorageService.uploadBytes(renditionKey(fileKey, size), encode(resized, png), png ? "image/png" : "image/jpeg");
+        }
+
+        albumImageRepository.markRenditionsReady(fileKey);
+    }
+
+    public void deleteRenditions(String fileKey) {
+        for (Integer size : sizes) {
+            try {
+                minioStorageService.deleteFile(renditionKey(fileKey, size));
+            } catch (StorageExceptionHandler e) {
+                log.warn("Não foi possível remover a miniatura {} do storage", renditionKey(fileKey, size), e);
+            }
+        }
+    }
+
+    private void generateSafely(String fileKey) {
+        try {
+            generate(fileKey);
+        } catch (RuntimeException e) {
+            log.error("Erro ao gerar miniaturas de {}", fileKey, e);
+        }
+    }
+
+    private BufferedImage read(byte[] content, String fileKey) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(content));
+            if (image == null) {
+                throw new StorageExceptionHandler("Formato de imagem não suportado: " + fileKey);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new StorageExceptionHandler("Erro ao ler imagem " + fileKey, e);
+        }
+    }
+
+    // Reduz pela metade a cada passo até o tamanho final; um único passo bilinear serrilha reduções grandes
+    static BufferedImage resize(BufferedImage source, int maxDimension, boolean keepAlpha) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, boolean png) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            if (png) {
+                ImageIO.write(image, "png", output);
+                return output.toByteArray();
+            }
+
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+                writer.setOutput(imageOutput);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new StorageExceptionHandler("Erro ao gerar miniatura", e);
+        }
+    }
+
+    private static boolean isPng(String fileKey) {
+        return fileKey.toLowerCase().endsWith(".png");
+    }
+}
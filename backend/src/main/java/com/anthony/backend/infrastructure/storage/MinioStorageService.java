@@ -1,25 +1,54 @@
 package com.anthony.backend.infrastructure.storage;
 
 import com.anthony.backend.domain.exception.StorageExceptionHandler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.minio.*;
 import io.minio.http.Method;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 public class MinioStorageService {
 
     private final MinioClient minioClient;
+    private final String bucketName;
+    private final Duration presignedUrlExpiry;
+    private final Cache<String, String> presignedUrlCache;
 
-    @Value("${minio.bucket-name}")
-    private String bucketName;
+    public MinioStorageService(MinioClient minioClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${minio.bucket-name}") String bucketName,
+                               @Value("${minio.presigned-url.expiry:30m}") Duration presignedUrlExpiry,
+                               @Value("${minio.presigned-url.cache.safety-margin:5m}") Duration safetyMargin,
+                               @Value("${minio.presigned-url.cache.max-size:10000}") long maxSize) {
+        if (!safetyMargin.minus(presignedUrlExpiry).isNegative()) {
+            throw new IllegalArgumentException("minio.presigned-url.cache.safety-margin deve ser menor que minio.presigned-url.expiry");
+        }
+        this.minioClient = minioClient;
+        this.bucketName = bucketName;
+        this.presignedUrlExpiry = presignedUrlExpiry;
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(presignedUrlExpiry.minus(safetyMargin))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, "minio.presigned-urls");
+    }
 
     public String uploadFile(MultipartFile file, Long albumId) {
         try {
@@ -42,21 +71,44 @@ public class MinioStorageService {
         }
     }
 
-    public String getPresignedUrl(String fileName) {
+    public void uploadBytes(String fileName, byte[] content, String contentType) {
         try {
-            return minioClient.getPresignedObjectUrl(
-                    GetPresignedObjectUrlArgs.builder()
-                            .method(Method.GET)
+            minioClient.putObject(
+                    PutObjectArgs.builder()
                             .bucket(bucketName)
                             .object(fileName)
-                            .expiry(30, TimeUnit.MINUTES)
+                            .stream(new ByteArrayInputStream(content), content.length, -1)
+                            .contentType(contentType)
                             .build()
             );
         } catch (Exception e) {
-            throw new StorageExceptionHandler("Erro ao gerar URL pré-assinada", e);
+            throw new StorageExceptionHandler("Erro ao fazer upload do arquivo", e);
+        }
+    }
+
+    public byte[] downloadFile(String fileName) {
+        try (InputStream inputStream = minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(fileName)
+                        .build())) {
+            return inputStream.readAllBytes();
+        } catch (Exception e) {
+            throw new StorageExceptionHandler("Erro ao baixar arquivo", e);
         }
     }
 
+    public String getPresignedUrl(String fileName) {
+        return presignedUrlCache.get(fileName, this::signUrl);
+    }
+
+    public Map<String, String> getPresignedUrls(Collection<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return Map.of();
+        }
+        return presignedUrlCache.getAll(fileNames, this::signUrls);
+    }
+
     public void deleteFile(String fileName) {
         try {
             minioClient.removeObject(
@@ -67,7 +119,32 @@ public class MinioStorageService {
             );
         } catch (Exception e) {
             throw new StorageExceptionHandler("Erro ao deletar arquivo", e);
+        } finally {
+            presignedUrlCache.invalidate(fileName);
+        }
+    }
+
+    private String signUrl(String fileName) {
+        try {
+            return minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.GET)
+                            .bucket(bucketName)
+                            .object(fileName)
+                            .expiry((int) presignedUrlExpiry.toSeconds(), TimeUnit.SECONDS)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw new StorageExceptionHandler("Erro ao gerar URL pré-assinada", e);
+        }
+    }
+
+    private Map<String, String> signUrls(Set<? extends String> fileNames) {
+        Map<String, String> urls = new HashMap<>();
+        for (String fileName : fileNames) {
+            urls.put(fileName, signUrl(fileName));
         }
+        return urls;
     }
 
     private String generateFileName(String originalFilename, Long albumId) {
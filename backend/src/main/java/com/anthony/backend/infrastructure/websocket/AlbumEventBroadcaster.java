@@ -0,0 +1,10 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+
+import java.util.List;
+
+public interface AlbumEventBroadcaster {
+
+    void broadcast(List<AlbumEventOutboxEntity> events);
+}
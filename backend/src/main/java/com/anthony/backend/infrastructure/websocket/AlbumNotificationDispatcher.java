@@ -0,0 +1,94 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.controller.dto.notification.AlbumEventsNotificationDTO;
+import com.anthony.backend.controller.dto.notification.AlbumNotificationDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.anthony.backend.application.service.WebSocketNotificationService.ALBUM_CREATED;
+import static com.anthony.backend.application.service.WebSocketNotificationService.ALBUM_DELETED;
+import static com.anthony.backend.application.service.WebSocketNotificationService.ALBUM_IMAGES_UPDATED;
+
+@Component
+public class AlbumNotificationDispatcher {
+
+    static final String ALBUM_EVENTS = "ALBUM_EVENTS";
+    private static final String DESTINATION = "/topic/albums";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxBatchSize;
+    private final Counter coalescedEvents;
+    private final Counter sentFrames;
+
+    public AlbumNotificationDispatcher(SimpMessagingTemplate messagingTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${notification.dispatcher.max-batch-size:100}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.coalescedEvents = Counter.builder("notifications.coalesced").register(meterRegistry);
+        this.sentFrames = Counter.builder("notifications.frames.sent").register(meterRegistry);
+    }
+
+    // Envia os eventos na ordem recebida, em frames de no máximo maxBatchSize eventos.
+    // Exceções chegam ao chamador, que mantém os eventos pendentes para nova tentativa.
+    public void publish(List<AlbumNotificationDTO> batch) {
+        for (int from = 0; from < batch.size(); from += maxBatchSize) {
+            send(batch.subList(from, Math.min(from + maxBatchSize, batch.size())));
+        }
+    }
+
+    private void send(List<AlbumNotificationDTO> batch) {
+        List<AlbumNotificationDTO> events = coalesce(batch);
+        coalescedEvents.increment(batch.size() - events.size());
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (events.size() == 1) {
+            messagingTemplate.convertAndSend(DESTINATION, events.get(0));
+        } else {
+            messagingTemplate.convertAndSend(DESTINATION, AlbumEventsNotificationDTO.builder()
+                    .type(ALBUM_EVENTS)
+                    .events(events)
+                    .lastSequence(batch.get(batch.size() - 1).getSequence())
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+        sentFrames.increment();
+    }
+
+    // Mantém um evento de álbum e um de imagens por álbum, na ordem da primeira ocorrência:
+    // criado + atualizado continua "criado" com os dados mais recentes, criado + deletado se anulam,
+    // e nos demais casos prevalece o último evento
+    static List<AlbumNotificationDTO> coalesce(List<AlbumNotificationDTO> batch) {
+        Map<String, AlbumNotificationDTO> byKey = new LinkedHashMap<>();
+
+        for (AlbumNotificationDTO event : batch) {
+            String key = (ALBUM_IMAGES_UPDATED.equals(event.getType()) ? "images:" : "album:") + event.getId();
+
+            AlbumNotificationDTO previous = byKey.get(key);
+            if (previous == null || !ALBUM_CREATED.equals(previous.getType())) {
+                byKey.put(key, event);
+            } else if (ALBUM_DELETED.equals(event.getType())) {
+                byKey.remove(key);
+            } else {
+                byKey.put(key, event.toBuilder()
+                        .type(ALBUM_CREATED)
+                        .message("Novo álbum criado: " + event.getTitle())
+                        .build());
+            }
+        }
+
+        return new ArrayList<>(byKey.values());
+    }
+}
@@ -0,0 +1,87 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventPublishCursorEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventOutboxJpaRepository;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventPublishCursorJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Publica o outbox em ordem de sequência. Um evento só é marcado como publicado depois do envio ao broker,
+// então uma falha (ou reinício) entre os dois passos gera reenvio, nunca perda.
+// A sequência de inserção fica visível na ordem de commit das transações, não na de alocação; por isso cada
+// evento recebe uma sequência de publicação com o cursor bloqueado, e é por ela que os clientes retomam
+@Slf4j
+@Component
+public class AlbumOutboxRelay {
+
+    static final int CURSOR_ID = 1;
+
+    private final AlbumEventOutboxJpaRepository outboxRepository;
+    private final AlbumEventPublishCursorJpaRepository cursorRepository;
+    private final AlbumEventBroadcaster broadcaster;
+    private final int batchSize;
+    private final Duration retention;
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+
+    public AlbumOutboxRelay(AlbumEventOutboxJpaRepository outboxRepository,
+                            AlbumEventPublishCursorJpaRepository cursorRepository,
+                            AlbumEventBroadcaster broadcaster,
+                            MeterRegistry meterRegistry,
+                            @Value("${notification.outbox.batch-size:200}") int batchSize,
+                            @Value("${notification.outbox.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.cursorRepository = cursorRepository;
+        this.broadcaster = broadcaster;
+        this.batchSize = batchSize;
+        this.retention = retention;
+
+        Gauge.builder("notifications.outbox.last-batch-size", lastBatchSize, AtomicInteger::get).register(meterRegistry);
+        // Consultado só na coleta das métricas; o índice parcial de pendentes mantém a contagem barata
+        Gauge.builder("notifications.queue.depth", outboxRepository, AlbumEventOutboxJpaRepository::countByPublishedAtIsNull)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:500ms}")
+    @Transactional
+    public void relay() {
+        AlbumEventPublishCursorEntity cursor = cursorRepository.findForUpdate(CURSOR_ID)
+                .orElseGet(() -> cursorRepository.save(new AlbumEventPublishCursorEntity(CURSOR_ID, 0L)));
+        List<AlbumEventOutboxEntity> pending = outboxRepository.findUnpublished(Limit.of(batchSize));
+        lastBatchSize.set(pending.size());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long publishSequence = cursor.getLastSequence();
+        for (AlbumEventOutboxEntity event : pending) {
+            event.setPublishSequence(++publishSequence);
+        }
+        cursor.setLastSequence(publishSequence);
+
+        broadcaster.broadcast(pending);
+
+        LocalDateTime now = LocalDateTime.now();
+        pending.forEach(event -> event.setPublishedAt(now));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.cleanup-interval:1h}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("{} eventos publicados removidos do outbox de álbuns", deleted);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+public class DroppingSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final Counter droppedFrames;
+
+    public DroppingSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                               SubscribableChannel clientOutboundChannel,
+                                               MeterRegistry meterRegistry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.droppedFrames = Counter.builder("notifications.dropped").register(meterRegistry);
+    }
+
+    // Assinantes lentos perdem os frames mais antigos do buffer em vez de terem a sessão encerrada
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return new DroppingWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(), droppedFrames);
+    }
+}
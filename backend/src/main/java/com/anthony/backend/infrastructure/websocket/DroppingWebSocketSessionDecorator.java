@@ -0,0 +1,134 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// Mesmo comportamento do ConcurrentWebSocketSessionDecorator com OverflowStrategy.DROP, mas com buffer próprio para
+// contar os frames descartados: o decorator do Spring descarta internamente sem expor o evento. Continua sendo uma
+// subclasse dele porque o StompSubProtocolHandler exige esse tipo de sessão
+public class DroppingWebSocketSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+    private final Queue<WebSocketMessage<?>> buffer = new LinkedBlockingQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final Lock flushLock = new ReentrantLock();
+    private final Lock dropLock = new ReentrantLock();
+    private final Counter droppedFrames;
+    private volatile Consumer<WebSocketMessage<?>> preSendCallback;
+    private volatile long sendStartTime;
+    private volatile boolean limitExceeded;
+    private volatile boolean closeInProgress;
+
+    public DroppingWebSocketSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                             Counter droppedFrames) {
+        super(delegate, sendTimeLimit, bufferSizeLimit, OverflowStrategy.DROP);
+        this.droppedFrames = droppedFrames;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize.get();
+    }
+
+    @Override
+    public long getTimeSinceSendStarted() {
+        long start = sendStartTime;
+        return start > 0 ? System.currentTimeMillis() - start : 0;
+    }
+
+    @Override
+    public void setMessageCallback(Consumer<WebSocketMessage<?>> callback) {
+        this.preSendCallback = callback;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (shouldNotSend()) {
+            return;
+        }
+
+        buffer.add(message);
+        bufferSize.addAndGet(message.getPayloadLength());
+
+        Consumer<WebSocketMessage<?>> callback = preSendCallback;
+        if (callback != null) {
+            callback.accept(message);
+        }
+
+        do {
+            if (!tryFlushMessageBuffer()) {
+                checkSessionLimits();
+                break;
+            }
+        }
+        while (!buffer.isEmpty() && !shouldNotSend());
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closeInProgress = true;
+        super.close(limitExceeded ? CloseStatus.SESSION_NOT_RELIABLE : status);
+    }
+
+    private boolean shouldNotSend() {
+        return limitExceeded || closeInProgress;
+    }
+
+    private boolean tryFlushMessageBuffer() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            while (true) {
+                WebSocketMessage<?> message = buffer.poll();
+                if (message == null || shouldNotSend()) {
+                    break;
+                }
+                bufferSize.addAndGet(-message.getPayloadLength());
+                sendStartTime = System.currentTimeMillis();
+                getDelegate().sendMessage(message);
+                sendStartTime = 0;
+            }
+        } finally {
+            sendStartTime = 0;
+            flushLock.unlock();
+        }
+        return true;
+    }
+
+    // Só o envio travado além do limite de tempo encerra a sessão; buffer cheio descarta os frames mais antigos
+    private void checkSessionLimits() {
+        if (shouldNotSend() || !dropLock.tryLock()) {
+            return;
+        }
+        try {
+            if (getTimeSinceSendStarted() > getSendTimeLimit()) {
+                limitExceeded = true;
+                throw new SessionLimitExceededException(String.format(
+                        "Send time %d (ms) for session '%s' exceeded the allowed limit %d",
+                        getTimeSinceSendStarted(), getId(), getSendTimeLimit()), CloseStatus.SESSION_NOT_RELIABLE);
+            }
+            while (getBufferSize() > getBufferSizeLimit()) {
+                WebSocketMessage<?> message = buffer.poll();
+                if (message == null) {
+                    break;
+                }
+                bufferSize.addAndGet(-message.getPayloadLength());
+                droppedFrames.increment();
+            }
+        } finally {
+            dropLock.unlock();
+        }
+    }
+}
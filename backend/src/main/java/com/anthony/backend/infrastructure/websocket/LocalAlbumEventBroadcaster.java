@@ -0,0 +1,23 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.application.service.WebSocketNotificationService;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Publica direto no broker desta réplica: suficiente com uma única instância ou com o broker relay externo
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.cluster.bridge", havingValue = "none", matchIfMissing = true)
+public class LocalAlbumEventBroadcaster implements AlbumEventBroadcaster {
+
+    private final AlbumNotificationDispatcher dispatcher;
+
+    @Override
+    public void broadcast(List<AlbumEventOutboxEntity> events) {
+        dispatcher.publish(events.stream().map(WebSocketNotificationService::toNotification).toList());
+    }
+}
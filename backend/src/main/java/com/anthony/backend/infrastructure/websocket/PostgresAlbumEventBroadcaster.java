@@ -0,0 +1,28 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Avisa todas as réplicas via NOTIFY; cada uma publica os eventos no próprio broker (PostgresAlbumEventListener).
+// O NOTIFY participa da transação do relay e só é entregue depois do commit. O payload leva só a faixa de sequências
+// de publicação do lote ("primeira,última"), já que o PostgreSQL limita o payload a 8000 bytes.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.cluster.bridge", havingValue = "postgres")
+public class PostgresAlbumEventBroadcaster implements AlbumEventBroadcaster {
+
+    static final String CHANNEL = "album_events";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void broadcast(List<AlbumEventOutboxEntity> events) {
+        String range = events.get(0).getPublishSequence() + "," + events.get(events.size() - 1).getPublishSequence();
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, range);
+    }
+}
@@ -0,0 +1,147 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.application.service.WebSocketNotificationService;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+// Mantém uma conexão dedicada em LISTEN e repassa ao broker local os eventos publicados por qualquer réplica.
+// Os NOTIFY enviados com a conexão caída se perdem, então a cada reconexão o listener busca no outbox
+// o que foi publicado depois da última sequência repassada
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.cluster.bridge", havingValue = "postgres")
+public class PostgresAlbumEventListener implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final AlbumEventOutboxJpaRepository outboxRepository;
+    private final AlbumNotificationDispatcher dispatcher;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final int batchSize;
+    private final Counter receivedNotifications;
+    private volatile boolean running;
+    private Thread worker;
+    // Acessado só pela thread do listener; nulo até a primeira conexão
+    private Long lastDispatchedSequence;
+
+    public PostgresAlbumEventListener(DataSource dataSource,
+                                      AlbumEventOutboxJpaRepository outboxRepository,
+                                      AlbumNotificationDispatcher dispatcher,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${websocket.cluster.listen.poll-timeout:1s}") Duration pollTimeout,
+                                      @Value("${websocket.cluster.listen.reconnect-delay:5s}") Duration reconnectDelay,
+                                      @Value("${notification.outbox.batch-size:200}") int batchSize) {
+        this.dataSource = dataSource;
+        this.outboxRepository = outboxRepository;
+        this.dispatcher = dispatcher;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.batchSize = batchSize;
+        this.receivedNotifications = Counter.builder("websocket.cluster.notifications.received").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "album-events-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + PostgresAlbumEventBroadcaster.CHANNEL);
+                }
+                catchUp();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexão LISTEN de eventos de álbuns perdida, tentando novamente em {}: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Chamado logo após cada LISTEN: o que for publicado a partir daqui chega por NOTIFY
+    void catchUp() {
+        if (lastDispatchedSequence == null) {
+            // Na primeira conexão só interessam eventos novos; os anteriores são recuperados pelos clientes via /album/events
+            lastDispatchedSequence = outboxRepository.findLastPublishSequence();
+            return;
+        }
+        dispatchUpTo(Long.MAX_VALUE);
+    }
+
+    void handle(String payload) {
+        if (payload == null || payload.isBlank()) {
+            return;
+        }
+        receivedNotifications.increment();
+
+        String[] range = payload.split(",");
+        if (lastDispatchedSequence == null) {
+            lastDispatchedSequence = Long.valueOf(range[0].trim()) - 1;
+        }
+        dispatchUpTo(Long.valueOf(range[range.length - 1].trim()));
+    }
+
+    // Parte da última sequência repassada, e não do início da faixa, para cobrir lacunas deixadas por notificações perdidas
+    private void dispatchUpTo(long last) {
+        while (lastDispatchedSequence < last) {
+            List<AlbumEventOutboxEntity> events = outboxRepository.findByPublishSequenceBetweenOrderByPublishSequenceAsc(
+                    lastDispatchedSequence + 1, last, Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return;
+            }
+            dispatcher.publish(events.stream().map(WebSocketNotificationService::toNotification).toList());
+            lastDispatchedSequence = events.get(events.size() - 1).getPublishSequence();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+// Substitui @EnableWebSocketMessageBroker para trocar o handler de sessões, já que o
+// SubProtocolWebSocketHandler padrão sempre decora a sessão com OverflowStrategy.TERMINATE
+@Configuration(proxyBeanMethods = false)
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+
+    public WebSocketBrokerConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        DroppingSubProtocolWebSocketHandler handler =
+                new DroppingSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel, meterRegistry);
+        handler.setPhase(getPhase());
+        return handler;
+    }
+}
@@ -1,18 +1,60 @@
 package com.anthony.backend.infrastructure.websocket;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.inbound.pool-size:4}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.outbound.pool-size:4}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // "relay" delega o fan-out a um broker STOMP externo (RabbitMQ, ActiveMQ), compartilhado por todas as réplicas
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            config.enableSimpleBroker("/topic");
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -22,5 +64,26 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
-}
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Limites aplicados pelo DroppingSubProtocolWebSocketHandler: ao estourar o buffer, descarta os frames mais antigos
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+}
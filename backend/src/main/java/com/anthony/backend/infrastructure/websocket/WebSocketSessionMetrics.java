@@ -0,0 +1,40 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// O SessionDisconnectEvent pode chegar mais de uma vez por sessão, ou para sessões que nunca receberam CONNECTED;
+// contar pelos ids mantém o gauge consistente nesses casos
+@Component
+public class WebSocketSessionMetrics {
+
+    private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
+    private final Counter connectedSessions;
+
+    public WebSocketSessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.sessions.active", activeSessions, Set::size).register(meterRegistry);
+        this.connectedSessions = Counter.builder("websocket.sessions.connected").register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null && activeSessions.add(sessionId)) {
+            connectedSessions.increment();
+        }
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        activeSessions.remove(event.getSessionId());
+    }
+}
@@ -1,43 +1,77 @@
 package com.anthony.backend.regionais.client;
 
+import com.anthony.backend.regionais.dto.RegionaisExternasResposta;
 import com.anthony.backend.regionais.dto.RegionalExternoDTO;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
+import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RegionaisClient {
 
     private final RestTemplate restTemplate;
-    private static final String REGIONAIS_URL = "https://integrador-argus-api.geia.vip/v1/regionais";
+    private final String regionaisUrl;
 
-    public List<RegionalExternoDTO> buscarRegionais() {
+    // Validadores da última versão aplicada com sucesso; só são gravados depois que o diff foi persistido
+    private volatile String etag;
+    private volatile String lastModified;
+
+    public RegionaisClient(RestTemplate restTemplate,
+                           @Value("${regionais.api.url:https://integrador-argus-api.geia.vip/v1/regionais}") String regionaisUrl) {
+        this.restTemplate = restTemplate;
+        this.regionaisUrl = regionaisUrl;
+    }
+
+    // Vazio quando a API responde 304: nada mudou desde a última versão registrada
+    public Optional<RegionaisExternasResposta> buscarRegionais(boolean condicional) {
         try {
-            log.info("Buscando regionais da API externa: {}", REGIONAIS_URL);
+            log.info("Buscando regionais da API externa: {}", regionaisUrl);
+
+            HttpHeaders headers = new HttpHeaders();
+            if (condicional && etag != null) {
+                headers.setIfNoneMatch(etag);
+            }
+            if (condicional && lastModified != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
 
             ResponseEntity<List<RegionalExternoDTO>> response = restTemplate.exchange(
-                    REGIONAIS_URL,
+                    regionaisUrl,
                     HttpMethod.GET,
-                    null,
+                    new HttpEntity<>(headers),
                     new ParameterizedTypeReference<List<RegionalExternoDTO>>() {}
             );
 
-            List<RegionalExternoDTO> regionais = response.getBody();
-            log.info("Regionais obtidas com sucesso. Total: {}", regionais != null ? regionais.size() : 0);
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                log.info("Regionais inalteradas na API externa");
+                return Optional.empty();
+            }
 
-            return regionais;
+            List<RegionalExternoDTO> regionais = response.getBody() != null ? response.getBody() : List.of();
+            log.info("Regionais obtidas com sucesso. Total: {}", regionais.size());
+
+            return Optional.of(new RegionaisExternasResposta(regionais,
+                    response.getHeaders().getETag(),
+                    response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)));
         } catch (Exception e) {
             log.error("Erro ao buscar regionais da API externa", e);
             throw new RuntimeException("Erro ao buscar regionais da API externa: " + e.getMessage(), e);
         }
     }
-}
 
+    public void registrarVersao(RegionaisExternasResposta resposta) {
+        this.etag = resposta.getEtag();
+        this.lastModified = resposta.getLastModified();
+    }
+}
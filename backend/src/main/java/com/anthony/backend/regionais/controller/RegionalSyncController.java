@@ -1,5 +1,6 @@
 package com.anthony.backend.regionais.controller;
 
+import com.anthony.backend.regionais.dto.RegionalSyncResultDTO;
 import com.anthony.backend.regionais.service.RegionalSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -7,10 +8,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api/sync")
 @RequiredArgsConstructor
@@ -22,13 +22,10 @@ public class RegionalSyncController {
     @PostMapping("/regionais")
     @Operation(
         summary = "Sincronizar regionais",
-        description = "Sincroniza dados de regionais da Polícia Civil com a tabela interna."
+        description = "Sincroniza dados de regionais da Polícia Civil com a tabela interna e retorna quantas foram inseridas, atualizadas e inativadas. "
+                + "Sem forcar=true a busca é condicional (ETag/If-Modified-Since) e uma resposta 304 encerra a sincronização."
     )
-    public ResponseEntity<Map<String, String>> sincronizarRegionais() {
-        regionalSyncService.sincronizarRegionais();
-        return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "message", "Sincronização de regionais executada com sucesso"
-        ));
+    public ResponseEntity<RegionalSyncResultDTO> sincronizarRegionais(@RequestParam(defaultValue = "false") boolean forcar) {
+        return ResponseEntity.ok(regionalSyncService.sincronizarRegionais(forcar));
     }
 }
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Regional {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "regional_seq")
+    @SequenceGenerator(name = "regional_seq", sequenceName = "regionais_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "external_id", nullable = false)
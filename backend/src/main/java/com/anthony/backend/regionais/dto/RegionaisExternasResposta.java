@@ -0,0 +1,14 @@
+package com.anthony.backend.regionais.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RegionaisExternasResposta {
+    private final List<RegionalExternoDTO> regionais;
+    private final String etag;
+    private final String lastModified;
+}
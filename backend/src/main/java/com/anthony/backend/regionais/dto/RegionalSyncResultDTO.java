@@ -0,0 +1,18 @@
+package com.anthony.backend.regionais.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegionalSyncResultDTO {
+    private int inseridos;
+    private int atualizados;
+    private int inativados;
+    private long duracaoMillis;
+    private boolean naoModificado;
+}
@@ -0,0 +1,90 @@
+package com.anthony.backend.regionais.repository;
+
+import com.anthony.backend.regionais.dto.RegionalExternoDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Operações em lote da sincronização: evitam carregar entidades e um round-trip por linha
+@Repository
+public class RegionalBatchRepository {
+
+    private static final long CHAVE_LOCK_SINCRONIZACAO = "regionais-sync".hashCode();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final String nextId;
+    private final boolean advisoryLock;
+
+    public RegionalBatchRepository(JdbcTemplate jdbcTemplate,
+                                   EntityManagerFactory entityManagerFactory,
+                                   @Value("${regionais.sync.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.nextId = dialect.getSequenceSupport().getSelectSequenceNextValString("regionais_id_seq");
+        this.advisoryLock = dialect instanceof PostgreSQLDialect;
+    }
+
+    // Advisory lock de transação: serializa a sincronização entre réplicas e é liberado no commit ou rollback.
+    // Fora do PostgreSQL (H2 nos testes) não há lock; o índice único parcial de external_id continua valendo em produção
+    public boolean tentarLockSincronizacao() {
+        if (!advisoryLock) {
+            return true;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CHAVE_LOCK_SINCRONIZACAO));
+    }
+
+    public Map<Long, String> findNomesAtivosPorExternalId() {
+        Map<Long, String> nomes = new HashMap<>();
+        jdbcTemplate.query("SELECT external_id, nome FROM regionais WHERE ativo = true",
+                rs -> {
+                    nomes.put(rs.getLong("external_id"), rs.getString("nome"));
+                });
+        return nomes;
+    }
+
+    public int inativar(Collection<Long> externalIds, LocalDateTime agora) {
+        List<Long> ids = List.copyOf(externalIds);
+        int inativados = 0;
+        for (int inicio = 0; inicio < ids.size(); inicio += batchSize) {
+            List<Long> lote = ids.subList(inicio, Math.min(inicio + batchSize, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(lote.size(), "?"));
+
+            Object[] parametros = new Object[lote.size() + 1];
+            parametros[0] = Timestamp.valueOf(agora);
+            for (int i = 0; i < lote.size(); i++) {
+                parametros[i + 1] = lote.get(i);
+            }
+
+            inativados += jdbcTemplate.update("UPDATE regionais SET ativo = false, updated_at = ? "
+                    + "WHERE ativo = true AND external_id IN (" + placeholders + ")", parametros);
+        }
+        return inativados;
+    }
+
+    public void inserirAtivas(List<RegionalExternoDTO> regionais, LocalDateTime agora) {
+        Timestamp timestamp = Timestamp.valueOf(agora);
+        jdbcTemplate.batchUpdate("INSERT INTO regionais (id, external_id, nome, ativo, created_at, updated_at) VALUES ("
+                        + nextId + ", ?, ?, true, ?, ?)",
+                regionais, batchSize, (ps, regional) -> {
+                    ps.setLong(1, regional.getId());
+                    ps.setString(2, regional.getNome());
+                    ps.setTimestamp(3, timestamp);
+                    ps.setTimestamp(4, timestamp);
+                });
+    }
+}
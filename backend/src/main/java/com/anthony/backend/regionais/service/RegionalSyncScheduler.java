@@ -0,0 +1,62 @@
+package com.anthony.backend.regionais.service;
+
+import com.anthony.backend.domain.exception.ResourceConflictExceptionHandler;
+import com.anthony.backend.regionais.dto.RegionalSyncResultDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Agenda a próxima execução a partir do fim da anterior, com jitter para que réplicas não consultem a API juntas
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "regionais.sync.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class RegionalSyncScheduler implements SchedulingConfigurer {
+
+    private final RegionalSyncService regionalSyncService;
+    private final Duration initialDelay;
+    private final Duration interval;
+    private final Duration jitter;
+
+    public RegionalSyncScheduler(RegionalSyncService regionalSyncService,
+                                 @Value("${regionais.sync.scheduler.initial-delay:1m}") Duration initialDelay,
+                                 @Value("${regionais.sync.scheduler.interval:1h}") Duration interval,
+                                 @Value("${regionais.sync.scheduler.jitter:5m}") Duration jitter) {
+        this.regionalSyncService = regionalSyncService;
+        this.initialDelay = initialDelay;
+        this.interval = interval;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addTriggerTask(this::sincronizar, this::proximaExecucao);
+    }
+
+    Instant proximaExecucao(TriggerContext context) {
+        Instant ultimaConclusao = context.lastCompletion();
+        Instant base = ultimaConclusao != null ? ultimaConclusao.plus(interval) : Instant.now().plus(initialDelay);
+        long jitterMillis = jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        return base.plusMillis(jitterMillis);
+    }
+
+    void sincronizar() {
+        try {
+            RegionalSyncResultDTO resultado = regionalSyncService.sincronizarRegionais();
+            if (resultado.isNaoModificado()) {
+                log.debug("Sincronização agendada de regionais: nenhuma alteração na API externa");
+            }
+        } catch (ResourceConflictExceptionHandler e) {
+            log.info("Sincronização agendada de regionais ignorada: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Falha na sincronização agendada de regionais", e);
+        }
+    }
+}
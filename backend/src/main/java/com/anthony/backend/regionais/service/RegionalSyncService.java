@@ -1,18 +1,25 @@
 package com.anthony.backend.regionais.service;
 
+import com.anthony.backend.domain.exception.ResourceConflictExceptionHandler;
 import com.anthony.backend.regionais.client.RegionaisClient;
-import com.anthony.backend.regionais.domain.Regional;
+import com.anthony.backend.regionais.dto.RegionaisExternasResposta;
 import com.anthony.backend.regionais.dto.RegionalExternoDTO;
-import com.anthony.backend.regionais.repository.RegionalRepository;
+import com.anthony.backend.regionais.dto.RegionalSyncResultDTO;
+import com.anthony.backend.regionais.repository.RegionalBatchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -20,72 +27,93 @@ import java.util.stream.Collectors;
 public class RegionalSyncService {
 
     private final RegionaisClient regionaisClient;
-    private final RegionalRepository regionalRepository;
+    private final RegionalBatchRepository regionalBatchRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public void sincronizarRegionais() {
-        log.info("Iniciando sincronização de regionais");
+    // Evita chamadas concorrentes à API nesta instância; entre réplicas vale o advisory lock tomado na transação
+    private final ReentrantLock sincronizacaoEmAndamento = new ReentrantLock();
 
-        // 1. Buscar regionais externas
-        List<RegionalExternoDTO> regionaisExternas = regionaisClient.buscarRegionais();
-        Map<Long, RegionalExternoDTO> regionaisExternasMap = regionaisExternas.stream()
-                .collect(Collectors.toMap(RegionalExternoDTO::getId, r -> r));
-
-        // 2. Buscar regionais ativas do banco
-        List<Regional> regionaisAtivas = regionalRepository.findByAtivoTrue();
-        Map<Long, Regional> regionaisAtivasMap = regionaisAtivas.stream()
-                .collect(Collectors.toMap(Regional::getExternalId, r -> r));
+    public RegionalSyncResultDTO sincronizarRegionais() {
+        return sincronizarRegionais(false);
+    }
 
-        // Estatísticas
-        int inseridos = 0;
-        int atualizados = 0;
-        int inativados = 0;
+    // A chamada à API externa fica fora da transação; só o diff e a escrita em lote seguram conexão
+    public RegionalSyncResultDTO sincronizarRegionais(boolean forcar) {
+        if (!sincronizacaoEmAndamento.tryLock()) {
+            throw new ResourceConflictExceptionHandler("Já existe uma sincronização de regionais em andamento");
+        }
 
-        // 3. Processar regionais externas
-        for (RegionalExternoDTO regionalExterno : regionaisExternas) {
-            Regional regionalExistente = regionaisAtivasMap.get(regionalExterno.getId());
+        try {
+            log.info("Iniciando sincronização de regionais");
+            long inicio = System.nanoTime();
 
-            if (regionalExistente == null) {
-                // Não existe no banco → inserir ativo
-                Regional novaRegional = Regional.builder()
-                        .externalId(regionalExterno.getId())
-                        .nome(regionalExterno.getNome())
-                        .ativo(true)
-                        .build();
-                regionalRepository.save(novaRegional);
-                inseridos++;
-                log.debug("Regional inserida: ID={}, Nome={}", regionalExterno.getId(), regionalExterno.getNome());
-            } else if (!regionalExistente.getNome().equals(regionalExterno.getNome())) {
-                // Existe e o nome mudou → inativar antigo + inserir novo
-                regionalExistente.setAtivo(false);
-                regionalRepository.save(regionalExistente);
-
-                Regional novaRegional = Regional.builder()
-                        .externalId(regionalExterno.getId())
-                        .nome(regionalExterno.getNome())
-                        .ativo(true)
+            // 1. Buscar regionais externas; com resposta 304 não há diff a calcular
+            Optional<RegionaisExternasResposta> resposta = regionaisClient.buscarRegionais(!forcar);
+            if (resposta.isEmpty()) {
+                return RegionalSyncResultDTO.builder()
+                        .naoModificado(true)
+                        .duracaoMillis((System.nanoTime() - inicio) / 1_000_000)
                         .build();
-                regionalRepository.save(novaRegional);
+            }
+
+            // Em caso de ID repetido vale a última ocorrência
+            Map<Long, RegionalExternoDTO> regionaisExternas = new LinkedHashMap<>();
+            for (RegionalExternoDTO regional : resposta.get().getRegionais()) {
+                regionaisExternas.put(regional.getId(), regional);
+            }
+
+            RegionalSyncResultDTO resultado = transactionTemplate.execute(status -> aplicar(regionaisExternas));
+            regionaisClient.registrarVersao(resposta.get());
+            resultado.setDuracaoMillis((System.nanoTime() - inicio) / 1_000_000);
+
+            log.info("Sincronização concluída. Inseridos: {}, Atualizados: {}, Inativados: {}",
+                    resultado.getInseridos(), resultado.getAtualizados(), resultado.getInativados());
+            return resultado;
+        } finally {
+            sincronizacaoEmAndamento.unlock();
+        }
+    }
+
+    private RegionalSyncResultDTO aplicar(Map<Long, RegionalExternoDTO> regionaisExternas) {
+        if (!regionalBatchRepository.tentarLockSincronizacao()) {
+            throw new ResourceConflictExceptionHandler("Já existe uma sincronização de regionais em andamento em outra instância");
+        }
+
+        // 2. Buscar apenas external_id e nome das regionais ativas
+        Map<Long, String> nomesAtivos = regionalBatchRepository.findNomesAtivosPorExternalId();
+
+        // 3. Calcular o diff: novas são inseridas; renomeadas têm a linha antiga inativada e uma nova inserida
+        List<RegionalExternoDTO> paraInserir = new ArrayList<>();
+        Set<Long> paraInativar = new HashSet<>();
+        int atualizados = 0;
+        for (RegionalExternoDTO regionalExterna : regionaisExternas.values()) {
+            String nomeAtual = nomesAtivos.get(regionalExterna.getId());
+            if (nomeAtual == null) {
+                paraInserir.add(regionalExterna);
+            } else if (!nomeAtual.equals(regionalExterna.getNome())) {
+                paraInativar.add(regionalExterna.getId());
+                paraInserir.add(regionalExterna);
                 atualizados++;
-                log.debug("Regional atualizada: ID={}, Nome antigo={}, Nome novo={}",
-                        regionalExterno.getId(), regionalExistente.getNome(), regionalExterno.getNome());
             }
-            // Se existe e o nome não mudou → não faz nada
         }
 
         // 4. Inativar regionais que não vieram da API
-        for (Regional regionalAtiva : regionaisAtivas) {
-            if (!regionaisExternasMap.containsKey(regionalAtiva.getExternalId())) {
-                regionalAtiva.setAtivo(false);
-                regionalRepository.save(regionalAtiva);
+        int inativados = 0;
+        for (Long externalId : nomesAtivos.keySet()) {
+            if (!regionaisExternas.containsKey(externalId)) {
+                paraInativar.add(externalId);
                 inativados++;
-                log.debug("Regional inativada: ID={}, Nome={}",
-                        regionalAtiva.getExternalId(), regionalAtiva.getNome());
             }
         }
 
-        log.info("Sincronização concluída. Inseridos: {}, Atualizados: {}, Inativados: {}",
-                inseridos, atualizados, inativados);
+        LocalDateTime agora = LocalDateTime.now();
+        regionalBatchRepository.inativar(paraInativar, agora);
+        regionalBatchRepository.inserirAtivas(paraInserir, agora);
+
+        return RegionalSyncResultDTO.builder()
+                .inseridos(paraInserir.size() - atualizados)
+                .atualizados(atualizados)
+                .inativados(inativados)
+                .build();
     }
 }
-
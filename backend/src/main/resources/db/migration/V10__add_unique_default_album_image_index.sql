@@ -0,0 +1,12 @@
+-- Mantém apenas a imagem padrão mais recente de cada álbum antes de criar o índice único
+UPDATE album_image ai
+SET is_default = false
+WHERE ai.is_default
+  AND EXISTS (
+      SELECT 1 FROM album_image other
+      WHERE other.album_id = ai.album_id
+        AND other.is_default
+        AND other.id > ai.id
+  );
+
+CREATE UNIQUE INDEX uk_album_image_default ON album_image(album_id) WHERE is_default;
@@ -0,0 +1 @@
+ALTER TABLE album_image ADD COLUMN renditions_ready BOOLEAN NOT NULL DEFAULT false;
@@ -0,0 +1,5 @@
+-- Estado compartilhado dos buckets de rate limit quando rate-limit.backend=postgres
+CREATE TABLE rate_limit_bucket (
+    id VARCHAR(255) PRIMARY KEY,
+    state BYTEA
+);
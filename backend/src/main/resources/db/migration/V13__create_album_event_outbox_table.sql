@@ -0,0 +1,13 @@
+-- Outbox de eventos de álbuns: gravado na mesma transação da alteração e publicado por um relay em ordem de sequência
+CREATE TABLE album_event_outbox (
+    sequence BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    album_id BIGINT NOT NULL,
+    title VARCHAR(255),
+    artist_id BIGINT,
+    artist_name VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP
+);
+
+CREATE INDEX idx_album_event_outbox_unpublished ON album_event_outbox (sequence) WHERE published_at IS NULL;
@@ -0,0 +1,6 @@
+-- IDs alocados pelo Hibernate em blocos de 50 (otimizador pooled), permitindo inserts em lote via JDBC.
+-- O próximo nextval retorna o fim do bloco; o Hibernate usa os 50 valores anteriores a ele.
+ALTER SEQUENCE artist_id_seq INCREMENT BY 50;
+ALTER SEQUENCE album_id_seq INCREMENT BY 50;
+ALTER SEQUENCE album_image_id_seq INCREMENT BY 50;
+ALTER SEQUENCE regionais_id_seq INCREMENT BY 50;
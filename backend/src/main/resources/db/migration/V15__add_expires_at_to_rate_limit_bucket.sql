@@ -0,0 +1,4 @@
+-- Instante (epoch millis) em que o bucket volta a estar cheio; depois disso a linha pode ser removida
+ALTER TABLE rate_limit_bucket ADD COLUMN expires_at BIGINT;
+
+CREATE INDEX idx_rate_limit_bucket_expires_at ON rate_limit_bucket (expires_at);
@@ -0,0 +1,15 @@
+-- A sequência de inserção fica visível na ordem de commit, não na de alocação; os clientes passam a retomar
+-- pela sequência de publicação, atribuída pelo relay enquanto segura o cursor
+ALTER TABLE album_event_outbox ADD COLUMN publish_sequence BIGINT;
+
+UPDATE album_event_outbox SET publish_sequence = sequence WHERE published_at IS NOT NULL;
+
+CREATE UNIQUE INDEX idx_album_event_outbox_publish_sequence ON album_event_outbox (publish_sequence);
+
+CREATE TABLE album_event_publish_cursor (
+    id INTEGER PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
+
+INSERT INTO album_event_publish_cursor (id, last_sequence)
+SELECT 1, COALESCE(MAX(publish_sequence), 0) FROM album_event_outbox;
@@ -0,0 +1,8 @@
+-- Sincronizações concorrentes em réplicas diferentes podiam deixar duas linhas ativas para o mesmo external_id;
+-- mantém apenas a mais recente antes de impedir a duplicidade no banco
+UPDATE regionais r
+SET ativo = false, updated_at = NOW()
+WHERE r.ativo
+  AND EXISTS (SELECT 1 FROM regionais o WHERE o.external_id = r.external_id AND o.ativo AND o.id > r.id);
+
+CREATE UNIQUE INDEX ux_regionais_external_id_ativo ON regionais(external_id) WHERE ativo;
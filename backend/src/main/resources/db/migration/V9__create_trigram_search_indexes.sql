@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_album_title_trgm ON album USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX idx_artist_name_trgm ON artist USING gin (lower(name) gin_trgm_ops);
@@ -1,27 +1,39 @@
 package com.anthony.backend.application.service;
 
 import com.anthony.backend.domain.exception.InvalidFileException;
+import com.anthony.backend.domain.exception.InvalidRenditionSizeExceptionHandler;
+import com.anthony.backend.domain.exception.StorageExceptionHandler;
 import com.anthony.backend.domain.model.Album;
 import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.model.AlbumImageUploadResult;
+import com.anthony.backend.domain.model.ImageUploadTiming;
 import com.anthony.backend.domain.repository.AlbumImageRepository;
+import com.anthony.backend.infrastructure.storage.ImageRenditionService;
 import com.anthony.backend.infrastructure.storage.MinioStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -39,7 +51,15 @@ class AlbumImageServiceTest {
     @Mock
     private MinioStorageService minioStorageService;
 
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ImageRenditionService imageRenditionService;
+
+    @Mock
+    private WebSocketNotificationService notificationService;
+
     private AlbumImageService albumImageService;
 
     private Album album;
@@ -48,6 +68,23 @@ class AlbumImageServiceTest {
 
     @BeforeEach
     void setUp() {
+        albumImageService = new AlbumImageService(albumImageRepository, albumService, minioStorageService,
+                Runnable::run, transactionTemplate, imageRenditionService, notificationService,
+                new AlbumImageUrlService(minioStorageService, imageRenditionService));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(albumImageRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AlbumImage> images = invocation.getArgument(0);
+            long id = 1L;
+            for (AlbumImage image : images) {
+                image.setId(id++);
+            }
+            return images;
+        });
+        when(minioStorageService.getPresignedUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().collect(Collectors.toMap(key -> key, key -> "https://minio.example.com/presigned-url"));
+        });
         album = Album.builder()
                 .id(1L)
                 .title("Test Album")
@@ -75,14 +112,8 @@ class AlbumImageServiceTest {
 
         when(albumService.findById(albumId)).thenReturn(album);
         when(minioStorageService.uploadFile(validFile, albumId)).thenReturn(fileKey);
-        when(albumImageRepository.save(any(AlbumImage.class))).thenAnswer(invocation -> {
-            AlbumImage image = invocation.getArgument(0);
-            image.setId(1L);
-            return image;
-        });
-        when(minioStorageService.getPresignedUrl(fileKey)).thenReturn(presignedUrl);
 
-        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false);
+        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false).getImages();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getFileKey()).isEqualTo(fileKey);
@@ -91,9 +122,9 @@ class AlbumImageServiceTest {
 
         verify(albumService).findById(albumId);
         verify(minioStorageService).uploadFile(validFile, albumId);
-        verify(albumImageRepository).save(any(AlbumImage.class));
-        verify(minioStorageService).getPresignedUrl(fileKey);
+        verify(albumImageRepository).saveAll(anyList());
         verify(albumImageRepository, never()).updateIsDefaultByAlbumId(anyLong(), anyBoolean());
+        verify(imageRenditionService).generateAsync(List.of(fileKey));
     }
 
     @Test
@@ -111,18 +142,12 @@ class AlbumImageServiceTest {
         when(minioStorageService.uploadFile(any(MultipartFile.class), eq(albumId)))
                 .thenReturn("albums/1/image1.jpg")
                 .thenReturn("albums/1/image2.png");
-        when(albumImageRepository.save(any(AlbumImage.class))).thenAnswer(invocation -> {
-            AlbumImage image = invocation.getArgument(0);
-            image.setId(1L);
-            return image;
-        });
-        when(minioStorageService.getPresignedUrl(anyString())).thenReturn("https://minio.example.com/presigned-url");
 
-        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false);
+        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false).getImages();
 
         assertThat(result).hasSize(2);
         verify(minioStorageService, times(2)).uploadFile(any(MultipartFile.class), eq(albumId));
-        verify(albumImageRepository, times(2)).save(any(AlbumImage.class));
+        verify(albumImageRepository).saveAll(argThat(images -> images.size() == 2));
     }
 
     @Test
@@ -140,14 +165,8 @@ class AlbumImageServiceTest {
         when(minioStorageService.uploadFile(any(MultipartFile.class), eq(albumId)))
                 .thenReturn("albums/1/image1.jpg")
                 .thenReturn("albums/1/image2.jpg");
-        when(albumImageRepository.save(any(AlbumImage.class))).thenAnswer(invocation -> {
-            AlbumImage image = invocation.getArgument(0);
-            image.setId(1L);
-            return image;
-        });
-        when(minioStorageService.getPresignedUrl(anyString())).thenReturn("https://minio.example.com/presigned-url");
 
-        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, true);
+        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, true).getImages();
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getIsDefault()).isTrue();
@@ -155,6 +174,73 @@ class AlbumImageServiceTest {
         verify(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
     }
 
+    @Test
+    @DisplayName("Deve informar o tempo de envio de cada arquivo")
+    void shouldReportUploadTimingPerFile() {
+        Long albumId = 1L;
+        MultipartFile file1 = mock(MultipartFile.class);
+        MultipartFile file2 = mock(MultipartFile.class);
+        when(file1.getOriginalFilename()).thenReturn("image1.jpg");
+        when(file1.getSize()).thenReturn(100L);
+        when(file2.getOriginalFilename()).thenReturn("image2.png");
+        when(file2.getSize()).thenReturn(200L);
+
+        when(albumService.findById(albumId)).thenReturn(album);
+        when(minioStorageService.uploadFile(file1, albumId)).thenReturn("albums/1/image1.jpg");
+        when(minioStorageService.uploadFile(file2, albumId)).thenReturn("albums/1/image2.png");
+
+        AlbumImageUploadResult result = albumImageService.uploadImages(albumId, new MultipartFile[]{file1, file2}, false);
+
+        assertThat(result.getTimings()).extracting(ImageUploadTiming::getOriginalFilename, ImageUploadTiming::getFileKey, ImageUploadTiming::getSizeBytes)
+                .containsExactly(
+                        tuple("image1.jpg", "albums/1/image1.jpg", 100L),
+                        tuple("image2.png", "albums/1/image2.png", 200L));
+        assertThat(result.getTimings()).allSatisfy(timing -> assertThat(timing.getDurationMillis()).isNotNegative());
+        assertThat(result.getTotalDurationMillis()).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("Deve remover arquivos já enviados quando outro upload falhar")
+    void shouldDeleteUploadedFilesWhenAnotherUploadFails() {
+        Long albumId = 1L;
+        MultipartFile file1 = mock(MultipartFile.class);
+        MultipartFile file2 = mock(MultipartFile.class);
+        when(file1.getOriginalFilename()).thenReturn("image1.jpg");
+        when(file2.getOriginalFilename()).thenReturn("image2.jpg");
+
+        when(albumService.findById(albumId)).thenReturn(album);
+        when(minioStorageService.uploadFile(file1, albumId)).thenReturn("albums/1/image1.jpg");
+        when(minioStorageService.uploadFile(file2, albumId))
+                .thenThrow(new StorageExceptionHandler("Erro ao fazer upload do arquivo", new RuntimeException()));
+
+        assertThatThrownBy(() -> albumImageService.uploadImages(albumId, new MultipartFile[]{file1, file2}, false))
+                .isInstanceOf(StorageExceptionHandler.class);
+
+        verify(minioStorageService).deleteFile("albums/1/image1.jpg");
+        verify(albumImageRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve remover arquivos enviados quando a gravação no banco falhar")
+    void shouldDeleteUploadedFilesWhenPersistenceFails() {
+        Long albumId = 1L;
+        MultipartFile file1 = mock(MultipartFile.class);
+        MultipartFile file2 = mock(MultipartFile.class);
+        when(file1.getOriginalFilename()).thenReturn("image1.jpg");
+        when(file2.getOriginalFilename()).thenReturn("image2.jpg");
+
+        when(albumService.findById(albumId)).thenReturn(album);
+        when(minioStorageService.uploadFile(file1, albumId)).thenReturn("albums/1/image1.jpg");
+        when(minioStorageService.uploadFile(file2, albumId)).thenReturn("albums/1/image2.jpg");
+        when(albumImageRepository.saveAll(anyList())).thenThrow(new IllegalStateException("falha no banco"));
+
+        assertThatThrownBy(() -> albumImageService.uploadImages(albumId, new MultipartFile[]{file1, file2}, true))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(minioStorageService).deleteFile("albums/1/image1.jpg");
+        verify(minioStorageService).deleteFile("albums/1/image2.jpg");
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando arquivo tem extensão inválida")
     void shouldThrowExceptionWhenFileHasInvalidExtension() {
@@ -170,7 +256,7 @@ class AlbumImageServiceTest {
                 .hasMessageContaining("Extensão de arquivo 'pdf' não permitida");
 
         verify(minioStorageService, never()).uploadFile(any(), anyLong());
-        verify(albumImageRepository, never()).save(any());
+        verify(albumImageRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -215,14 +301,8 @@ class AlbumImageServiceTest {
 
         when(albumService.findById(albumId)).thenReturn(album);
         when(minioStorageService.uploadFile(any(), anyLong())).thenReturn("albums/1/image.jpg");
-        when(albumImageRepository.save(any())).thenAnswer(invocation -> {
-            AlbumImage image = invocation.getArgument(0);
-            image.setId(1L);
-            return image;
-        });
-        when(minioStorageService.getPresignedUrl(anyString())).thenReturn("https://minio.example.com/presigned-url");
 
-        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false);
+        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false).getImages();
 
         assertThat(result).hasSize(1);
         verify(minioStorageService).uploadFile(upperCaseFile, albumId);
@@ -244,16 +324,19 @@ class AlbumImageServiceTest {
                 .build();
 
         when(albumImageRepository.findByAlbumId(albumId)).thenReturn(Arrays.asList(image1, image2));
-        when(minioStorageService.getPresignedUrl("albums/1/image1.jpg")).thenReturn("https://minio.example.com/url1");
-        when(minioStorageService.getPresignedUrl("albums/1/image2.jpg")).thenReturn("https://minio.example.com/url2");
+        when(minioStorageService.getPresignedUrls(Set.of("albums/1/image1.jpg", "albums/1/image2.jpg")))
+                .thenReturn(Map.of(
+                        "albums/1/image1.jpg", "https://minio.example.com/url1",
+                        "albums/1/image2.jpg", "https://minio.example.com/url2"));
 
-        List<AlbumImage> result = albumImageService.getAlbumImages(albumId);
+        List<AlbumImage> result = albumImageService.getAlbumImages(albumId, null);
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getFileUrl()).isEqualTo("https://minio.example.com/url1");
         assertThat(result.get(1).getFileUrl()).isEqualTo("https://minio.example.com/url2");
         verify(albumImageRepository).findByAlbumId(albumId);
-        verify(minioStorageService, times(2)).getPresignedUrl(anyString());
+        verify(minioStorageService).getPresignedUrls(anyCollection());
+        verify(minioStorageService, never()).getPresignedUrl(anyString());
     }
 
     @Test
@@ -263,15 +346,63 @@ class AlbumImageServiceTest {
         String presignedUrl = "https://minio.example.com/presigned-url";
 
         when(albumImageRepository.findById(imageId)).thenReturn(Optional.of(albumImage));
-        when(minioStorageService.getPresignedUrl(albumImage.getFileKey())).thenReturn(presignedUrl);
+        when(minioStorageService.getPresignedUrls(Set.of(albumImage.getFileKey())))
+                .thenReturn(Map.of(albumImage.getFileKey(), presignedUrl));
 
-        AlbumImage result = albumImageService.getImageById(imageId);
+        AlbumImage result = albumImageService.getImageById(imageId, null);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(imageId);
         assertThat(result.getFileUrl()).isEqualTo(presignedUrl);
+        assertThat(result.getRenditionUrls()).isNull();
         verify(albumImageRepository).findById(imageId);
-        verify(minioStorageService).getPresignedUrl(albumImage.getFileKey());
+        verify(minioStorageService).getPresignedUrls(Set.of(albumImage.getFileKey()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar URL da miniatura pedida quando as miniaturas estão prontas")
+    void shouldReturnRenditionUrlWhenRenditionsAreReady() {
+        Long imageId = 1L;
+        albumImage.setRenditionsReady(true);
+
+        when(imageRenditionService.getSizes()).thenReturn(List.of(128, 512));
+        when(albumImageRepository.findById(imageId)).thenReturn(Optional.of(albumImage));
+
+        AlbumImage result = albumImageService.getImageById(imageId, 128);
+
+        assertThat(result.getRenditionUrls()).containsOnlyKeys(128, 512);
+        assertThat(result.getFileUrl()).isEqualTo(result.getRenditionUrls().get(128));
+        verify(minioStorageService).getPresignedUrls(Set.of(
+                "albums/1/image.jpg", "albums/1/image_128.jpg", "albums/1/image_512.jpg"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar URL do original quando as miniaturas ainda não foram geradas")
+    void shouldFallBackToOriginalWhenRenditionsAreNotReady() {
+        Long imageId = 1L;
+        String presignedUrl = "https://minio.example.com/presigned-url";
+
+        when(imageRenditionService.getSizes()).thenReturn(List.of(128, 512));
+        when(albumImageRepository.findById(imageId)).thenReturn(Optional.of(albumImage));
+        when(minioStorageService.getPresignedUrls(Set.of(albumImage.getFileKey())))
+                .thenReturn(Map.of(albumImage.getFileKey(), presignedUrl));
+
+        AlbumImage result = albumImageService.getImageById(imageId, 128);
+
+        assertThat(result.getFileUrl()).isEqualTo(presignedUrl);
+        assertThat(result.getRenditionUrls()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de miniatura não configurado")
+    void shouldRejectUnsupportedRenditionSize() {
+        doThrow(new InvalidRenditionSizeExceptionHandler(300, List.of(128, 512)))
+                .when(imageRenditionService).validateSize(300);
+
+        assertThatThrownBy(() -> albumImageService.getAlbumImages(1L, 300))
+                .isInstanceOf(InvalidRenditionSizeExceptionHandler.class);
+
+        verify(albumImageRepository, never()).findByAlbumId(anyLong());
     }
 
     @Test
@@ -281,7 +412,7 @@ class AlbumImageServiceTest {
         Long imageId = 999L;
         when(albumImageRepository.findById(imageId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> albumImageService.getImageById(imageId))
+        assertThatThrownBy(() -> albumImageService.getImageById(imageId, null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Imagem não encontrada");
 
@@ -327,18 +458,18 @@ class AlbumImageServiceTest {
         String presignedUrl = "https://minio.example.com/presigned-url";
 
         when(albumImageRepository.findById(imageId)).thenReturn(Optional.of(albumImage));
-        when(albumImageRepository.save(albumImage)).thenReturn(albumImage);
+        when(albumImageRepository.markAsDefault(albumId, imageId)).thenReturn(true);
         when(minioStorageService.getPresignedUrl(albumImage.getFileKey())).thenReturn(presignedUrl);
-        doNothing().when(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
 
         AlbumImage result = albumImageService.setAsDefault(albumId, imageId);
 
         assertThat(result).isNotNull();
         assertThat(result.getIsDefault()).isTrue();
         assertThat(result.getFileUrl()).isEqualTo(presignedUrl);
-        verify(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
-        verify(albumImageRepository).findById(imageId);
-        verify(albumImageRepository).save(albumImage);
+        InOrder inOrder = inOrder(albumImageRepository);
+        inOrder.verify(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
+        inOrder.verify(albumImageRepository).markAsDefault(albumId, imageId);
+        verify(albumImageRepository, never()).saveAll(anyList());
         verify(minioStorageService).getPresignedUrl(albumImage.getFileKey());
     }
 
@@ -348,16 +479,15 @@ class AlbumImageServiceTest {
         Long albumId = 1L;
         Long imageId = 999L;
 
-        doNothing().when(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
         when(albumImageRepository.findById(imageId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> albumImageService.setAsDefault(albumId, imageId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Imagem não encontrada");
 
-        verify(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
         verify(albumImageRepository).findById(imageId);
-        verify(albumImageRepository, never()).save(any());
+        verify(albumImageRepository, never()).updateIsDefaultByAlbumId(anyLong(), anyBoolean());
+        verify(albumImageRepository, never()).markAsDefault(anyLong(), anyLong());
     }
 
     @Test
@@ -365,19 +495,17 @@ class AlbumImageServiceTest {
     void shouldThrowExceptionWhenImageDoesNotBelongToAlbum() {
         Long albumId = 2L;
         Long imageId = 1L;
-        Album differentAlbum = Album.builder().id(1L).build();
-        albumImage.setAlbum(differentAlbum);
 
-        doNothing().when(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
         when(albumImageRepository.findById(imageId)).thenReturn(Optional.of(albumImage));
+        when(albumImageRepository.markAsDefault(albumId, imageId)).thenReturn(false);
 
         assertThatThrownBy(() -> albumImageService.setAsDefault(albumId, imageId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Imagem não pertence a este álbum");
 
-        verify(albumImageRepository).updateIsDefaultByAlbumId(albumId, false);
         verify(albumImageRepository).findById(imageId);
-        verify(albumImageRepository, never()).save(any());
+        verify(albumImageRepository).markAsDefault(albumId, imageId);
+        verify(minioStorageService, never()).getPresignedUrl(anyString());
     }
 
     @Test
@@ -399,14 +527,8 @@ class AlbumImageServiceTest {
                 .thenReturn("albums/1/image1.jpeg")
                 .thenReturn("albums/1/image2.jpg")
                 .thenReturn("albums/1/image3.png");
-        when(albumImageRepository.save(any())).thenAnswer(invocation -> {
-            AlbumImage image = invocation.getArgument(0);
-            image.setId(1L);
-            return image;
-        });
-        when(minioStorageService.getPresignedUrl(anyString())).thenReturn("https://minio.example.com/presigned-url");
 
-        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false);
+        List<AlbumImage> result = albumImageService.uploadImages(albumId, files, false).getImages();
 
         assertThat(result).hasSize(3);
         verify(minioStorageService, times(3)).uploadFile(any(), eq(albumId));
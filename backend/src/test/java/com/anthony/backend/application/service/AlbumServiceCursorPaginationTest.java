@@ -0,0 +1,116 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.application.mapper.AlbumImageMapperImpl;
+import com.anthony.backend.application.mapper.AlbumMapperImpl;
+import com.anthony.backend.application.mapper.ArtistMapperImpl;
+import com.anthony.backend.application.pagination.CursorPage;
+import com.anthony.backend.application.pagination.CursorPage.CursorRequest;
+import com.anthony.backend.domain.exception.InvalidCursorExceptionHandler;
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.repository.AlbumRepositoryImpl;
+import com.anthony.backend.infrastructure.persistence.repository.ArtistRepositoryImpl;
+import com.anthony.backend.infrastructure.persistence.repository.RowCountEstimator;
+import com.anthony.backend.infrastructure.storage.ImageRenditionService;
+import com.anthony.backend.infrastructure.storage.MinioStorageService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AlbumService.class, AlbumImageUrlService.class, WebSocketNotificationService.class, AlbumRepositoryImpl.class, ArtistRepositoryImpl.class, RowCountEstimator.class,
+        AlbumMapperImpl.class, AlbumImageMapperImpl.class, ArtistMapperImpl.class})
+@DisplayName("AlbumService - Paginação por Cursor")
+class AlbumServiceCursorPaginationTest {
+
+    private static final Set<String> SORT_FIELDS = Set.of("id", "title");
+
+    @Autowired
+    private AlbumService albumService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private MinioStorageService minioStorageService;
+
+    @MockitoBean
+    private ImageRenditionService imageRenditionService;
+
+    @BeforeEach
+    void setUp() {
+        ArtistEntity artist = ArtistEntity.builder().name("Artist").build();
+        entityManager.persist(artist);
+
+        // Títulos repetidos garantem que o desempate por ID é respeitado
+        for (String title : List.of("E", "B", "D", "A", "C", "B", "E")) {
+            entityManager.persist(AlbumEntity.builder().title(title).artist(artist).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as páginas para frente sem repetir álbuns")
+    void shouldWalkForwardThroughAllPages() {
+        List<String> titles = new ArrayList<>();
+        String after = null;
+
+        do {
+            CursorPage<Album> page = albumService.findAllByCursor(null, null, null,
+                    CursorRequest.of("title", Sort.Direction.ASC, after, null, 3, SORT_FIELDS), false);
+            page.getContent().forEach(album -> titles.add(album.getTitle()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertThat(titles).containsExactly("A", "B", "B", "C", "D", "E", "E");
+    }
+
+    @Test
+    @DisplayName("Deve voltar para a página anterior na ordem original")
+    void shouldReturnPreviousPageInOriginalOrder() {
+        CursorPage<Album> first = albumService.findAllByCursor(null, null, null,
+                CursorRequest.of("title", Sort.Direction.ASC, null, null, 3, SORT_FIELDS), true);
+        CursorPage<Album> second = albumService.findAllByCursor(null, null, null,
+                CursorRequest.of("title", Sort.Direction.ASC, first.getNextCursor(), null, 3, SORT_FIELDS), false);
+        CursorPage<Album> back = albumService.findAllByCursor(null, null, null,
+                CursorRequest.of("title", Sort.Direction.ASC, null, second.getPreviousCursor(), 3, SORT_FIELDS), false);
+
+        assertThat(first.hasPrevious()).isFalse();
+        assertThat(first.getTotalElements()).isEqualTo(7);
+        assertThat(second.getTotalElements()).isNull();
+        assertThat(second.getContent()).extracting(Album::getTitle).containsExactly("C", "D", "E");
+        assertThat(back.getContent()).extracting(Album::getId)
+                .containsExactlyElementsOf(first.getContent().stream().map(Album::getId).toList());
+        assertThat(back.hasPrevious()).isFalse();
+        assertThat(back.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor gerado para outro campo de ordenação")
+    void shouldRejectCursorFromAnotherSortField() {
+        CursorPage<Album> byId = albumService.findAllByCursor(null, null, null,
+                CursorRequest.of("id", Sort.Direction.ASC, null, null, 2, SORT_FIELDS), false);
+
+        assertThatThrownBy(() -> CursorRequest.of("title", Sort.Direction.ASC, byId.getNextCursor(), null, 2, SORT_FIELDS))
+                .isInstanceOf(InvalidCursorExceptionHandler.class);
+        assertThatThrownBy(() -> CursorRequest.of("title", Sort.Direction.ASC, "%%%", null, 2, SORT_FIELDS))
+                .isInstanceOf(InvalidCursorExceptionHandler.class);
+    }
+}
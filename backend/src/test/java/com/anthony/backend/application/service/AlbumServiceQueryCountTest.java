@@ -0,0 +1,176 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.application.mapper.AlbumImageMapperImpl;
+import com.anthony.backend.application.mapper.AlbumMapperImpl;
+import com.anthony.backend.application.mapper.ArtistMapperImpl;
+import com.anthony.backend.application.pagination.CountMode;
+import com.anthony.backend.application.pagination.CountedPage;
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.repository.AlbumRepositoryImpl;
+import com.anthony.backend.infrastructure.persistence.repository.ArtistRepositoryImpl;
+import com.anthony.backend.infrastructure.persistence.repository.RowCountEstimator;
+import com.anthony.backend.infrastructure.storage.ImageRenditionService;
+import com.anthony.backend.infrastructure.storage.MinioStorageService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AlbumService.class, AlbumImageUrlService.class, WebSocketNotificationService.class, AlbumRepositoryImpl.class, ArtistRepositoryImpl.class, RowCountEstimator.class,
+        AlbumMapperImpl.class, AlbumImageMapperImpl.class, ArtistMapperImpl.class})
+@DisplayName("AlbumService - Contagem de Queries")
+class AlbumServiceQueryCountTest {
+
+    @Autowired
+    private AlbumService albumService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private MinioStorageService minioStorageService;
+
+    @MockitoBean
+    private ImageRenditionService imageRenditionService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            ArtistEntity artist = ArtistEntity.builder().name("Artist " + i).build();
+            entityManager.persist(artist);
+
+            for (int j = 0; j < 4; j++) {
+                AlbumEntity album = AlbumEntity.builder().title("Album " + i + "-" + j).artist(artist).build();
+                album.getImages().add(AlbumImageEntity.builder().fileKey("album/" + i + j + "/cover.jpg").isDefault(true).album(album).build());
+                album.getImages().add(AlbumImageEntity.builder().fileKey("album/" + i + j + "/back.jpg").isDefault(false).album(album).build());
+                entityManager.persist(album);
+            }
+        }
+        entityManager.flush();
+
+        when(minioStorageService.getPresignedUrls(anyCollection())).thenReturn(Map.of());
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Número de queries não deve crescer com o tamanho da página")
+    void queryCountShouldNotGrowWithPageSize() {
+        long smallPageQueries = countQueries(2);
+        long largePageQueries = countQueries(20);
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve carregar artista e imagens de todos os álbuns da página")
+    void shouldLoadArtistAndImagesForEveryAlbumInPage() {
+        entityManager.clear();
+
+        Page<Album> page = albumService.findAll(null, null, null, PageRequest.of(0, 20, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(page.getContent()).allSatisfy(album -> {
+            assertThat(album.getArtist().getName()).startsWith("Artist");
+            assertThat(album.getImages()).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Modo sem contagem não deve executar count")
+    void countModeNoneShouldSkipCountQuery() {
+        entityManager.clear();
+        statistics.clear();
+
+        CountedPage<Album> page = albumService.findAll(null, null, null, PageRequest.of(0, 5, Sort.by("id")), CountMode.NONE);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getTotalElements()).isNull();
+        assertThat(page.getTotalPages()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Modo estimado deve reutilizar contagem em cache entre requisições")
+    void countModeEstimateShouldReuseCachedCount() {
+        PageRequest firstPage = PageRequest.of(0, 5, Sort.by("id"));
+        albumService.findAll("album", null, null, firstPage, CountMode.ESTIMATE);
+
+        entityManager.clear();
+        statistics.clear();
+        CountedPage<Album> page = albumService.findAll("album", null, null, firstPage, CountMode.ESTIMATE);
+
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(page.isTotalExact()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Modo estimado deve retornar total exato na última página")
+    void countModeEstimateShouldBeExactOnLastPage() {
+        entityManager.clear();
+
+        CountedPage<Album> page = albumService.findAll(null, null, null, PageRequest.of(3, 5, Sort.by("id")), CountMode.ESTIMATE);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(page.isTotalExact()).isTrue();
+        assertThat(page.getTotalPages()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Curingas digitados no filtro devem ser tratados como literais")
+    void likeWildcardsInFilterShouldMatchLiterally() {
+        ArtistEntity artist = ArtistEntity.builder().name("100% Funk").build();
+        entityManager.persist(artist);
+        entityManager.persist(AlbumEntity.builder().title("Promo_50%").artist(artist).build());
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageable = PageRequest.of(0, 50, Sort.by("id"));
+
+        assertThat(albumService.findAll("_", null, null, pageable).getContent())
+                .extracting(Album::getTitle).containsExactly("Promo_50%");
+        assertThat(albumService.findAll("o_5", null, null, pageable).getContent()).hasSize(1);
+        assertThat(albumService.findAll("m-", null, null, pageable).getTotalElements()).isZero();
+        assertThat(albumService.findAll("%", null, null, pageable).getTotalElements()).isEqualTo(1);
+        assertThat(albumService.findAll(null, "0%", null, pageable).getTotalElements()).isEqualTo(1);
+        assertThat(albumService.findAll(null, "t_", null, pageable).getTotalElements()).isZero();
+    }
+
+    private long countQueries(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<Album> page = albumService.findAll(null, null, null, PageRequest.of(0, pageSize, Sort.by("id")));
+        page.getContent().forEach(album -> album.getImages().size());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
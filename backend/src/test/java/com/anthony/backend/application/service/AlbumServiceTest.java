@@ -1,6 +1,9 @@
 package com.anthony.backend.application.service;
 
 import com.anthony.backend.application.mapper.AlbumMapper;
+import com.anthony.backend.application.pagination.CountMode;
+import com.anthony.backend.application.pagination.CountedPage;
+import com.anthony.backend.domain.exception.InvalidRenditionSizeExceptionHandler;
 import com.anthony.backend.domain.exception.ResourceNotFoundExceptionHandler;
 import com.anthony.backend.domain.model.Album;
 import com.anthony.backend.domain.model.AlbumImage;
@@ -10,12 +13,12 @@ import com.anthony.backend.domain.repository.ArtistRepository;
 import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
 import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
 import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
+import com.anthony.backend.infrastructure.storage.ImageRenditionService;
 import com.anthony.backend.infrastructure.storage.MinioStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -28,8 +31,12 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -56,7 +63,12 @@ class AlbumServiceTest {
     @Mock
     private MinioStorageService minioStorageService;
 
-    @InjectMocks
+    @Mock
+    private ImageRenditionService imageRenditionService;
+
+    @Mock
+    private WebSocketNotificationService notificationService;
+
     private AlbumService albumService;
 
     private Artist artist;
@@ -66,6 +78,9 @@ class AlbumServiceTest {
 
     @BeforeEach
     void setUp() {
+        albumService = new AlbumService(albumRepository, artistRepository, albumJpaRepository, albumMapper,
+                new AlbumImageUrlService(minioStorageService, imageRenditionService), null, notificationService);
+
         artist = Artist.builder()
                 .id(1L)
                 .name("Test Artist")
@@ -111,6 +126,7 @@ class AlbumServiceTest {
 
         verify(artistRepository).findById(artistId);
         verify(albumRepository).save(any(Album.class));
+        verify(notificationService).notifyAlbumCreated(result);
     }
 
     @Test
@@ -142,8 +158,8 @@ class AlbumServiceTest {
         album.getImages().add(defaultImage);
 
         when(albumRepository.findById(albumId)).thenReturn(Optional.of(album));
-        when(minioStorageService.getPresignedUrl("albums/1/image.jpg"))
-                .thenReturn("https://minio.example.com/presigned-url");
+        when(minioStorageService.getPresignedUrls(Set.of("albums/1/image.jpg")))
+                .thenReturn(Map.of("albums/1/image.jpg", "https://minio.example.com/presigned-url"));
 
         Album result = albumService.findById(albumId);
 
@@ -152,7 +168,8 @@ class AlbumServiceTest {
         assertThat(result.getImages().get(0).getFileUrl()).isEqualTo("https://minio.example.com/presigned-url");
 
         verify(albumRepository).findById(albumId);
-        verify(minioStorageService).getPresignedUrl("albums/1/image.jpg");
+        verify(minioStorageService).getPresignedUrls(Set.of("albums/1/image.jpg"));
+        verify(minioStorageService, never()).getPresignedUrl(anyString());
     }
 
     @Test
@@ -311,15 +328,16 @@ class AlbumServiceTest {
         when(albumJpaRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(entityPage);
         when(albumMapper.toDomain(albumEntity)).thenReturn(album);
-        when(minioStorageService.getPresignedUrl("albums/1/image.jpg"))
-                .thenReturn("https://minio.example.com/presigned-url");
+        when(minioStorageService.getPresignedUrls(Set.of("albums/1/image.jpg")))
+                .thenReturn(Map.of("albums/1/image.jpg", "https://minio.example.com/presigned-url"));
 
         Page<Album> result = albumService.findAll(null, null, null, pageable);
 
         assertThat(result.getContent().get(0).getImages().get(0).getFileUrl())
                 .isEqualTo("https://minio.example.com/presigned-url");
 
-        verify(minioStorageService).getPresignedUrl("albums/1/image.jpg");
+        verify(minioStorageService).getPresignedUrls(Set.of("albums/1/image.jpg"));
+        verify(minioStorageService, never()).getPresignedUrl(anyString());
     }
 
     @Test
@@ -452,6 +470,7 @@ class AlbumServiceTest {
 
         verify(albumRepository).findById(albumId);
         verify(albumRepository).deleteById(albumId);
+        verify(notificationService).notifyAlbumDeleted(album);
     }
 
     @Test
@@ -522,5 +541,85 @@ class AlbumServiceTest {
         verify(albumJpaRepository).findAll(any(Specification.class), eq(pageable));
         verify(albumMapper, never()).toDomain(any());
     }
-}
 
+    @Test
+    @DisplayName("Deve manter a ordem de relevância na busca por título")
+    void shouldKeepRelevanceOrderWhenSearching() {
+        AlbumEntity secondEntity = new AlbumEntity();
+        secondEntity.setId(2L);
+        secondEntity.setTitle("Test Album II");
+        Album secondAlbum = Album.builder().id(2L).title("Test Album II").images(new ArrayList<>()).build();
+
+        when(albumJpaRepository.searchByTitle("test", "%test%", 10)).thenReturn(List.of(secondEntity, albumEntity));
+        when(albumJpaRepository.findWithArtistAndImagesByIdIn(List.of(2L, 1L))).thenReturn(List.of(albumEntity, secondEntity));
+        when(albumMapper.toDomain(albumEntity)).thenReturn(album);
+        when(albumMapper.toDomain(secondEntity)).thenReturn(secondAlbum);
+
+        List<Album> result = albumService.search("  test ", 10);
+
+        assertThat(result).extracting(Album::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia e limitar resultados na busca")
+    void shouldHandleBlankTermAndClampLimitWhenSearching() {
+        when(albumJpaRepository.searchByTitle(anyString(), anyString(), anyInt())).thenReturn(List.of());
+
+        assertThat(albumService.search("   ", 10)).isEmpty();
+        verify(albumJpaRepository, never()).searchByTitle(anyString(), anyString(), anyInt());
+
+        albumService.search("rock", 5000);
+        verify(albumJpaRepository).searchByTitle("rock", "%rock%", 100);
+    }
+
+    @Test
+    @DisplayName("Deve escapar curingas do LIKE sem alterar o termo da similaridade")
+    void shouldEscapeLikeWildcardsWhenSearching() {
+        when(albumJpaRepository.searchByTitle(anyString(), anyString(), anyInt())).thenReturn(List.of());
+
+        albumService.search(" 50%_off\\ ", 10);
+
+        verify(albumJpaRepository).searchByTitle("50%_off\\", "%50\\%\\_off\\\\%", 10);
+    }
+
+    @Test
+    @DisplayName("Deve usar a miniatura pedida como URL da capa ao listar álbuns")
+    void shouldUseRequestedRenditionForCoverWhenListing() {
+        Pageable pageable = PageRequest.of(0, 10);
+        AlbumImage defaultImage = AlbumImage.builder()
+                .id(1L)
+                .fileKey("albums/1/image.jpg")
+                .isDefault(true)
+                .renditionsReady(true)
+                .build();
+        album.getImages().add(defaultImage);
+
+        when(albumJpaRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(albumEntity), pageable, 1));
+        when(albumMapper.toDomain(albumEntity)).thenReturn(album);
+        when(imageRenditionService.getSizes()).thenReturn(List.of(128, 512));
+        when(minioStorageService.getPresignedUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().collect(Collectors.toMap(key -> key, key -> "https://minio.example.com/" + key));
+        });
+
+        CountedPage<Album> result = albumService.findAll(null, null, null, pageable, CountMode.EXACT, 128);
+
+        AlbumImage cover = result.getContent().get(0).getImages().get(0);
+        assertThat(cover.getRenditionUrls()).containsOnlyKeys(128, 512);
+        assertThat(cover.getFileUrl()).isEqualTo("https://minio.example.com/albums/1/image_128.jpg");
+        verify(imageRenditionService).validateSize(128);
+        verify(minioStorageService, times(1)).getPresignedUrls(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de miniatura não suportado antes de consultar o banco")
+    void shouldRejectUnsupportedImageSizeBeforeQuerying() {
+        doThrow(new InvalidRenditionSizeExceptionHandler(300, List.of(128, 512)))
+                .when(imageRenditionService).validateSize(300);
+
+        assertThatThrownBy(() -> albumService.findById(1L, 300))
+                .isInstanceOf(InvalidRenditionSizeExceptionHandler.class);
+        verify(albumRepository, never()).findById(anyLong());
+    }
+}
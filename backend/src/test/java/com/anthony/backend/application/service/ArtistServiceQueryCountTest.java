@@ -0,0 +1,92 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.application.mapper.AlbumImageMapperImpl;
+import com.anthony.backend.application.mapper.AlbumMapperImpl;
+import com.anthony.backend.application.mapper.ArtistMapperImpl;
+import com.anthony.backend.domain.model.Artist;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.repository.ArtistRepositoryImpl;
+import com.anthony.backend.infrastructure.persistence.repository.RowCountEstimator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ArtistService.class, ArtistRepositoryImpl.class, RowCountEstimator.class,
+        AlbumMapperImpl.class, AlbumImageMapperImpl.class, ArtistMapperImpl.class})
+@DisplayName("ArtistService - Contagem de Queries")
+class ArtistServiceQueryCountTest {
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 12; i++) {
+            ArtistEntity artist = ArtistEntity.builder().name("Artist " + i).build();
+            entityManager.persist(artist);
+
+            for (int j = 0; j < 3; j++) {
+                AlbumEntity album = AlbumEntity.builder().title("Album " + i + "-" + j).artist(artist).build();
+                album.getImages().add(AlbumImageEntity.builder().fileKey("album/" + i + j + "/cover.jpg").isDefault(true).album(album).build());
+                entityManager.persist(album);
+            }
+        }
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Número de queries com álbuns não deve crescer com o tamanho da página")
+    void queryCountWithAlbumsShouldNotGrowWithPageSize() {
+        long smallPageQueries = countQueries(2);
+        long largePageQueries = countQueries(12);
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Filtro por título de álbum não deve duplicar artistas na página")
+    void albumTitleFilterShouldNotDuplicateArtists() {
+        entityManager.clear();
+
+        Page<Artist> page = artistService.findAll(null, "Album", true, PageRequest.of(0, 5, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).extracting(Artist::getId).doesNotHaveDuplicates();
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).allSatisfy(artist -> assertThat(artist.getAlbums()).hasSize(3));
+    }
+
+    private long countQueries(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<Artist> page = artistService.findAll(null, null, true, PageRequest.of(0, pageSize, Sort.by("id")));
+        page.getContent().forEach(artist -> artist.getAlbums().forEach(album -> album.getImages().size()));
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -187,6 +187,25 @@ class ArtistServiceTest {
         verify(artistMapper, never()).toDomain(any());
     }
 
+    @Test
+    @DisplayName("Deve carregar álbuns e imagens em lote apenas quando álbuns são incluídos")
+    void shouldBatchLoadAlbumsAndImagesOnlyWhenIncludingAlbums() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ArtistEntity> entityPage = new PageImpl<>(List.of(artistEntity), pageable, 1);
+
+        when(artistJpaRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(entityPage);
+        when(artistJpaRepository.findWithAlbumsByIdIn(List.of(1L))).thenReturn(List.of(artistEntity));
+        when(artistMapper.toDomainWithAlbums(artistEntity)).thenReturn(artist);
+        when(artistMapper.toDomain(artistEntity)).thenReturn(artist);
+
+        artistService.findAll(null, null, true, pageable);
+        artistService.findAll(null, null, false, pageable);
+
+        verify(artistJpaRepository, times(1)).findAlbumsWithImagesByArtistIdIn(List.of(1L));
+        verify(artistJpaRepository, times(1)).findWithAlbumsByIdIn(List.of(1L));
+    }
+
     @Test
     @DisplayName("Deve buscar artistas filtrando por nome")
     void shouldFindArtistsFilteringByName() {
@@ -463,5 +482,38 @@ class ArtistServiceTest {
         verify(artistRepository).findById(artistId);
         verify(artistRepository).deleteById(artistId);
     }
-}
 
+    @Test
+    @DisplayName("Deve manter a ordem de relevância na busca por nome")
+    void shouldKeepRelevanceOrderWhenSearching() {
+        ArtistEntity secondEntity = new ArtistEntity();
+        secondEntity.setId(2L);
+        secondEntity.setName("Test Artist II");
+        Artist secondArtist = Artist.builder().id(2L).name("Test Artist II").albums(new ArrayList<>()).build();
+
+        when(artistJpaRepository.searchByName("test", "%test%", 10)).thenReturn(List.of(secondEntity, artistEntity));
+        when(artistMapper.toDomain(artistEntity)).thenReturn(artist);
+        when(artistMapper.toDomain(secondEntity)).thenReturn(secondArtist);
+
+        List<Artist> result = artistService.search("  test ", false, 10);
+
+        assertThat(result).extracting(Artist::getId).containsExactly(2L, 1L);
+        verify(artistMapper, never()).toDomainWithAlbums(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia e limitar resultados na busca")
+    void shouldHandleBlankTermAndClampLimitWhenSearching() {
+        when(artistJpaRepository.searchByName(anyString(), anyString(), anyInt())).thenReturn(List.of());
+
+        assertThat(artistService.search("   ", false, 10)).isEmpty();
+        assertThat(artistService.search(null, true, 10)).isEmpty();
+        verify(artistJpaRepository, never()).searchByName(anyString(), anyString(), anyInt());
+
+        artistService.search("rock", false, 5000);
+        verify(artistJpaRepository).searchByName("rock", "%rock%", 100);
+
+        artistService.search("rock", false, 0);
+        verify(artistJpaRepository).searchByName("rock", "%rock%", 1);
+    }
+}
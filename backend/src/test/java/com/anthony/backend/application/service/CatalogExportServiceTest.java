@@ -0,0 +1,116 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CatalogExportService.class, CatalogExportServiceTest.JsonConfig.class})
+@DisplayName("CatalogExportService - Testes com H2")
+class CatalogExportServiceTest {
+
+    private static final int ARTISTS = 3;
+    private static final int ALBUMS_PER_ARTIST = 600;
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @Autowired
+    private CatalogExportService catalogExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ARTISTS; i++) {
+            ArtistEntity artist = ArtistEntity.builder().name("Artist " + i).build();
+            entityManager.persist(artist);
+            for (int j = 0; j < ALBUMS_PER_ARTIST; j++) {
+                entityManager.persist(AlbumEntity.builder().title("Album " + i + "-" + j).artist(artist).build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve exportar NDJSON compatível com a importação mantendo o contexto de persistência limitado")
+    void shouldExportNdjsonWithBoundedPersistenceContext() {
+        Session session = entityManager.unwrap(Session.class);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int[] maxManagedEntities = {0};
+
+        // Amostra quantas entidades estão gerenciadas a cada linha escrita
+        OutputStream sampling = new OutputStream() {
+            @Override
+            public void write(int b) {
+                buffer.write(b);
+                if (b == '\n') {
+                    maxManagedEntities[0] = Math.max(maxManagedEntities[0], session.getStatistics().getEntityCount());
+                }
+            }
+        };
+
+        long rows = catalogExportService.export(CatalogFormat.NDJSON, sampling);
+
+        List<String> lines = buffer.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(ARTISTS * ALBUMS_PER_ARTIST);
+        assertThat(lines).hasSize(ARTISTS * ALBUMS_PER_ARTIST);
+        assertThat(maxManagedEntities[0]).isLessThanOrEqualTo(2 * AlbumJpaRepository.EXPORT_FETCH_SIZE + ARTISTS);
+
+        JsonNode first = jsonMapper.readTree(lines.get(0));
+        assertThat(first.get("album").asString()).isEqualTo("Album 0-0");
+        assertThat(first.get("artist").asString()).isEqualTo("Artist 0");
+        assertThat(first.get("albumId").isNumber()).isTrue();
+        assertThat(first.get("artistId").isNumber()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV com cabeçalho e campos escapados")
+    void shouldExportCsvWithEscapedFields() {
+        ArtistEntity artist = ArtistEntity.builder().name("Guns N' Roses").build();
+        entityManager.persist(artist);
+        entityManager.persist(AlbumEntity.builder().title("Use Your Illusion, \"I\"").artist(artist).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        catalogExportService.export(CatalogFormat.CSV, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(ARTISTS * ALBUMS_PER_ARTIST + 2);
+        assertThat(lines.get(0)).isEqualTo("album_id,album,artist_id,artist");
+        assertThat(lines.get(lines.size() - 1))
+                .endsWith(",\"Use Your Illusion, \"\"I\"\"\"," + artist.getId() + ",Guns N' Roses");
+    }
+}
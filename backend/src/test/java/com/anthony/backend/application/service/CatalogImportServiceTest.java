@@ -0,0 +1,187 @@
+package com.anthony.backend.application.service;
+
+import com.anthony.backend.application.mapper.AlbumImageMapperImpl;
+import com.anthony.backend.application.mapper.AlbumMapperImpl;
+import com.anthony.backend.application.mapper.ArtistMapperImpl;
+import com.anthony.backend.domain.model.Artist;
+import com.anthony.backend.domain.model.CatalogImportError;
+import com.anthony.backend.domain.model.CatalogImportResult;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
+import com.anthony.backend.infrastructure.persistence.jpa.ArtistJpaRepository;
+import com.anthony.backend.infrastructure.persistence.repository.ArtistRepositoryImpl;
+import com.anthony.backend.infrastructure.persistence.repository.CachingArtistRepository;
+import com.anthony.backend.infrastructure.persistence.repository.CatalogCache;
+import com.anthony.backend.infrastructure.persistence.repository.CatalogImportJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CatalogImportService.class, CatalogImportJdbcRepository.class, CatalogImportServiceTest.JsonConfig.class,
+        CatalogCache.class, SimpleMeterRegistry.class, CachingArtistRepository.class, ArtistRepositoryImpl.class,
+        ArtistMapperImpl.class, AlbumMapperImpl.class, AlbumImageMapperImpl.class})
+@TestPropertySource(properties = "catalog.import.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CatalogImportService - Testes com H2")
+class CatalogImportServiceTest {
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private ArtistJpaRepository artistJpaRepository;
+
+    @Autowired
+    private AlbumJpaRepository albumJpaRepository;
+
+    @Autowired
+    private CachingArtistRepository artistRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        albumJpaRepository.deleteAll();
+        artistJpaRepository.deleteAll();
+
+        ArtistEntity existing = artistJpaRepository.save(ArtistEntity.builder().name("Serj Tankian").build());
+        albumJpaRepository.save(AlbumEntity.builder().title("Harakiri").artist(existing).build());
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON reaproveitando artistas e reportando erros por linha")
+    void shouldImportNdjson() {
+        String body = """
+                {"artist": "Serj Tankian", "album": "Elect the Dead"}
+                {"artist": "Serj Tankian", "album": "HARAKIRI"}
+                {"artist": "Mike Shinoda", "album": "Post Traumatic"}
+
+                {"artist": "Mike Shinoda", "album": "Post Traumatic"}
+                {"artist": "Mike Shinoda"}
+                não é json
+                {"artist": "Mike Shinoda", "album": "Dropped Frames"}
+                """;
+
+        CatalogImportResult result = catalogImportService.importCatalog(stream(body), CatalogFormat.NDJSON);
+
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getArtistsCreated()).isEqualTo(1);
+        assertThat(result.getAlbumsCreated()).isEqualTo(3);
+        assertThat(result.getErrorCount()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(CatalogImportError::getLine)
+                .containsExactlyInAnyOrder(2L, 5L, 6L, 7L);
+        assertThat(artistJpaRepository.count()).isEqualTo(2);
+        assertThat(albumJpaRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV com cabeçalho e campos entre aspas")
+    void shouldImportCsv() {
+        String body = """
+                artist,album
+                "Tankian, Serj",Orca
+                Mike Shinoda,"The ""Rising"" Tied"
+                Linkin Park
+                """;
+
+        CatalogImportResult result = catalogImportService.importCatalog(stream(body), CatalogFormat.CSV);
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getAlbumsCreated()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(CatalogImportError::getLine).containsExactly(4L);
+        assertThat(albumJpaRepository.findAll())
+                .extracting(AlbumEntity::getTitle)
+                .contains("Orca", "The \"Rising\" Tied");
+        assertThat(artistJpaRepository.findByName("Tankian, Serj")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Importação deve invalidar os artistas em cache que receberam álbuns")
+    void shouldEvictCachedArtistAfterImport() {
+        // Como no ArtistService, a leitura acontece em transação somente leitura, a única em que o cache é usado
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long serjId = artistJpaRepository.findByName("Serj Tankian").orElseThrow().getId();
+        Long mikeId = artistJpaRepository.save(ArtistEntity.builder().name("Mike Shinoda").build()).getId();
+        readOnly.execute(status -> artistRepository.findById(serjId));
+        readOnly.execute(status -> artistRepository.findById(mikeId));
+
+        catalogImportService.importCatalog(stream("""
+                {"artist": "Serj Tankian", "album": "Elect the Dead"}
+                """), CatalogFormat.NDJSON);
+
+        Artist reloaded = readOnly.execute(status -> artistRepository.findById(serjId).orElseThrow());
+        readOnly.execute(status -> artistRepository.findById(mikeId));
+
+        assertThat(reloaded.getName()).isEqualTo("Serj Tankian");
+        assertThat(artistCacheGets("miss")).isEqualTo(3);
+        assertThat(artistCacheGets("hit")).isEqualTo(1);
+    }
+
+    private double artistCacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "catalog.artists").tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Deve interpretar linhas CSV com aspas e rejeitar aspas não fechadas")
+    void shouldParseCsvLines() {
+        assertThat(CatalogImportService.parseCsvLine("a,\"b,c\"")).containsExactly("a", "b,c");
+        assertThat(CatalogImportService.parseCsvLine("\"a\"\"b\",")).containsExactly("a\"b", "");
+        assertThat(CatalogImportService.parseCsvLine("\"aberta,b")).isNull();
+    }
+
+    @Test
+    @DisplayName("Limite de erros detalhados não deve afetar a contagem total")
+    void shouldCapReportedErrors() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1_200; i++) {
+            body.append("{}\n");
+        }
+
+        CatalogImportResult result = catalogImportService.importCatalog(stream(body.toString()), CatalogFormat.NDJSON);
+
+        assertThat(result.getErrorCount()).isEqualTo(1_200);
+        assertThat(result.getErrors()).hasSize(1_000);
+        assertThat(result.getErrors().get(0)).extracting(CatalogImportError::getLine, CatalogImportError::getMessage)
+                .containsExactly(1L, "Nome do artista e título do álbum são obrigatórios");
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package com.anthony.backend.application.service;
 
 import com.anthony.backend.domain.model.User;
 import com.anthony.backend.domain.repository.UserRepository;
+import com.anthony.backend.infrastructure.security.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -156,6 +160,17 @@ class UserServiceTest {
         verify(userRepository).deleteById(userId);
     }
 
+    @Test
+    @DisplayName("Deve remover usuário deletado do cache de autenticação")
+    void shouldEvictDeletedUserFromCache() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+
+        userService.deleteUser(1L);
+
+        verify(userRepository).deleteById(1L);
+        verify(userDetailsCache).evict(user1.getUsername());
+    }
+
     @Test
     @DisplayName("Deve retornar usuários com diferentes roles")
     void shouldReturnUsersWithDifferentRoles() {
@@ -0,0 +1,93 @@
+package com.anthony.backend.infrastructure.persistence;
+
+import com.anthony.backend.application.mapper.AlbumImageMapperImpl;
+import com.anthony.backend.application.mapper.AlbumMapperImpl;
+import com.anthony.backend.application.mapper.ArtistMapperImpl;
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
+import com.anthony.backend.infrastructure.persistence.jpa.ArtistJpaRepository;
+import com.anthony.backend.infrastructure.persistence.repository.AlbumImageRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Linhas/s dos saves de imagens no formato de AlbumImageService.uploadImages: um saveAll por transação, com o
+// batching JDBC do Hibernate (hibernate.jdbc.batch_size). A sincronização de regionais tem o próprio RegionalSyncBenchmark.
+// Não roda no mvn test (o nome não casa com *Test); execução, para comparar sem batching acrescente
+// -Dspring.jpa.properties.hibernate.jdbc.batch_size=1:
+//   mvn test -Dtest=BatchInsertBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AlbumImageRepositoryImpl.class, AlbumImageMapperImpl.class, AlbumMapperImpl.class, ArtistMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Inserts em lote - Benchmark com H2")
+class BatchInsertBenchmark {
+
+    private static final int TOTAL = Integer.getInteger("benchmark.imagens", 20_000);
+
+    @Autowired
+    private AlbumImageRepositoryImpl albumImageRepository;
+
+    @Autowired
+    private ArtistJpaRepository artistJpaRepository;
+
+    @Autowired
+    private AlbumJpaRepository albumJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Linhas/s de imagens salvas por upload de 10 arquivos e por saveAll de 500")
+    void albumImageInsertThroughput() {
+        ArtistEntity artist = artistJpaRepository.save(ArtistEntity.builder().name("Serj Tankian").build());
+        AlbumEntity entity = albumJpaRepository.save(AlbumEntity.builder().title("Harakiri").artist(artist).build());
+        Album album = Album.builder().id(entity.getId()).title(entity.getTitle()).build();
+
+        // Aquecimento descartado
+        salvar(album, TOTAL / 10, 10);
+
+        medir("upload de 10 imagens", album, 10);
+        medir("saveAll de 500", album, 500);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM album_image", Long.class))
+                .isEqualTo(TOTAL / 10 + 2L * TOTAL);
+    }
+
+    private void medir(String cenario, Album album, int porTransacao) {
+        long inicio = System.nanoTime();
+        salvar(album, TOTAL, porTransacao);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("%-22s %,8d linhas %8.0f ms %,12.0f linhas/s%n", cenario, TOTAL, segundos * 1000, TOTAL / segundos);
+    }
+
+    private void salvar(Album album, int total, int porTransacao) {
+        for (int inicio = 0; inicio < total; inicio += porTransacao) {
+            List<AlbumImage> images = new ArrayList<>(porTransacao);
+            for (int i = inicio; i < Math.min(inicio + porTransacao, total); i++) {
+                images.add(AlbumImage.builder().fileKey("album-" + album.getId() + "/" + System.nanoTime() + "-" + i + ".jpg")
+                        .isDefault(false).album(album).build());
+            }
+            transactionTemplate.executeWithoutResult(status -> albumImageRepository.saveAll(images));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.anthony.backend.infrastructure.persistence;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumImageJpaRepository;
+import com.anthony.backend.regionais.client.RegionaisClient;
+import com.anthony.backend.regionais.dto.RegionaisExternasResposta;
+import com.anthony.backend.regionais.dto.RegionalExternoDTO;
+import com.anthony.backend.regionais.dto.RegionalSyncResultDTO;
+import com.anthony.backend.regionais.repository.RegionalBatchRepository;
+import com.anthony.backend.regionais.service.RegionalSyncService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RegionalSyncService.class, RegionalBatchRepository.class})
+@TestPropertySource(properties = "regionais.sync.batch-size=" + BatchInsertTest.SYNC_BATCH_SIZE)
+@DisplayName("Inserts em lote - Testes com H2")
+class BatchInsertTest {
+
+    private static final int ROWS = 120;
+    static final int SYNC_BATCH_SIZE = 50;
+
+    @Autowired
+    private AlbumImageJpaRepository albumImageJpaRepository;
+
+    @Autowired
+    private RegionalSyncService regionalSyncService;
+
+    @MockitoBean
+    private RegionaisClient regionaisClient;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private AlbumEntity album;
+
+    @BeforeEach
+    void setUp() {
+        ArtistEntity artist = ArtistEntity.builder().name("Serj Tankian").build();
+        entityManager.persist(artist);
+        album = AlbumEntity.builder().title("Harakiri").artist(artist).build();
+        entityManager.persist(album);
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Imagens salvas juntas devem usar poucos statements, não um por linha")
+    void albumImagesShouldBeInsertedInBatches() {
+        List<AlbumImageEntity> images = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            images.add(AlbumImageEntity.builder().fileKey("album/" + i + ".jpg").isDefault(false).album(album).build());
+        }
+
+        albumImageJpaRepository.saveAll(images);
+        entityManager.flush();
+
+        // Um nextval a cada 50 IDs e um INSERT preparado por lote de 50 linhas
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(images).extracting(AlbumImageEntity::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Sincronização deve inserir as regionais em lotes JDBC, não uma por linha")
+    void regionaisShouldBeInsertedInBatches() {
+        List<RegionalExternoDTO> regionais = new ArrayList<>();
+        for (long i = 1; i <= ROWS; i++) {
+            regionais.add(new RegionalExternoDTO(i, "Regional " + i));
+        }
+        when(regionaisClient.buscarRegionais(false)).thenReturn(Optional.of(new RegionaisExternasResposta(regionais, null, null)));
+
+        List<int[][]> lotes = new ArrayList<>();
+        doAnswer(invocation -> {
+            int[][] resultado = (int[][]) invocation.callRealMethod();
+            lotes.add(resultado);
+            return resultado;
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        RegionalSyncResultDTO resultado = regionalSyncService.sincronizarRegionais(true);
+
+        // Um único batchUpdate: 120 linhas em lotes JDBC de 50
+        assertThat(resultado.getInseridos()).isEqualTo(ROWS);
+        assertThat(lotes).hasSize(1);
+        assertThat(Arrays.stream(lotes.get(0)).map(lote -> lote.length)).containsExactly(50, 50, 20);
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM regionais WHERE ativo = true", Integer.class)).isEqualTo(ROWS);
+    }
+}
@@ -0,0 +1,122 @@
+package com.anthony.backend.infrastructure.persistence;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumJpaRepository;
+import com.anthony.backend.infrastructure.persistence.jpa.ArtistJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles({"test", "l2cache"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Cache de segundo nível - Testes com H2")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ArtistJpaRepository artistJpaRepository;
+
+    @Autowired
+    private AlbumJpaRepository albumJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long artistId;
+    private Long albumId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            albumJpaRepository.deleteAll();
+            artistJpaRepository.deleteAll();
+
+            ArtistEntity artist = ArtistEntity.builder().name("Serj Tankian").build();
+            AlbumEntity album = AlbumEntity.builder().title("Harakiri").artist(artist).build();
+            album.getImages().add(AlbumImageEntity.builder().fileKey("album-1/cover.jpg").isDefault(true).album(album).build());
+            artist.getAlbums().add(album);
+            artistJpaRepository.save(artist);
+            artistId = artist.getId();
+            albumId = album.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("Leitura repetida de entidades e coleções não deve executar SQL")
+    void repeatedEntityAndCollectionReadsShouldIssueNoSql() {
+        readArtistGraph();
+
+        statistics.clear();
+        readArtistGraph();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Consulta por nome e por título repetida deve vir do cache de queries")
+    void repeatedFinderQueriesShouldIssueNoSql() {
+        transactionTemplate.executeWithoutResult(status -> {
+            artistJpaRepository.findByName("Serj Tankian");
+            albumJpaRepository.findByTitle("Harakiri");
+        });
+
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(artistJpaRepository.findByName("Serj Tankian")).isPresent();
+            assertThat(albumJpaRepository.findByTitle("Harakiri")).isPresent();
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Alteração deve invalidar o resultado de query em cache")
+    void writeShouldInvalidateCachedQuery() {
+        transactionTemplate.executeWithoutResult(status -> artistJpaRepository.findByName("Serj Tankian"));
+
+        transactionTemplate.executeWithoutResult(status ->
+                artistJpaRepository.findById(artistId).orElseThrow().setName("Serj"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(artistJpaRepository.findByName("Serj Tankian")).isEmpty();
+            assertThat(artistJpaRepository.findByName("Serj")).isPresent();
+        });
+    }
+
+    private void readArtistGraph() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ArtistEntity artist = artistJpaRepository.findById(artistId).orElseThrow();
+            assertThat(artist.getAlbums()).hasSize(1);
+            assertThat(artist.getAlbums().get(0).getImages()).hasSize(1);
+
+            AlbumEntity album = albumJpaRepository.findById(albumId).orElseThrow();
+            assertThat(album.getArtist().getName()).isEqualTo("Serj Tankian");
+        });
+    }
+}
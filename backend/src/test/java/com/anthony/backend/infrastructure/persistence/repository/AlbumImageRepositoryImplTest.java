@@ -0,0 +1,86 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.application.mapper.AlbumImageMapperImpl;
+import com.anthony.backend.application.mapper.AlbumMapperImpl;
+import com.anthony.backend.application.mapper.ArtistMapperImpl;
+import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEntity;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumImageEntity;
+import com.anthony.backend.infrastructure.persistence.entity.ArtistEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AlbumImageRepositoryImpl.class, AlbumImageMapperImpl.class, AlbumMapperImpl.class, ArtistMapperImpl.class})
+@DisplayName("AlbumImageRepositoryImpl - Imagem Padrão")
+class AlbumImageRepositoryImplTest {
+
+    @Autowired
+    private AlbumImageRepositoryImpl albumImageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long albumId;
+    private Long otherAlbumImageId;
+    private Long newDefaultImageId;
+
+    @BeforeEach
+    void setUp() {
+        ArtistEntity artist = ArtistEntity.builder().name("Artist").build();
+        entityManager.persist(artist);
+
+        AlbumEntity album = AlbumEntity.builder().title("Album").artist(artist).build();
+        AlbumEntity otherAlbum = AlbumEntity.builder().title("Other").artist(artist).build();
+        entityManager.persist(album);
+        entityManager.persist(otherAlbum);
+
+        for (int i = 0; i < 5; i++) {
+            AlbumImageEntity image = AlbumImageEntity.builder().fileKey("album/" + i + ".jpg").isDefault(i == 0).album(album).build();
+            entityManager.persist(image);
+            newDefaultImageId = image.getId();
+        }
+        AlbumImageEntity otherImage = AlbumImageEntity.builder().fileKey("other/cover.jpg").isDefault(true).album(otherAlbum).build();
+        entityManager.persist(otherImage);
+
+        entityManager.flush();
+        entityManager.clear();
+        albumId = album.getId();
+        otherAlbumImageId = otherImage.getId();
+    }
+
+    @Test
+    @DisplayName("Troca de imagem padrão deve usar apenas dois comandos UPDATE")
+    void shouldSwapDefaultImageWithTwoStatements() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        albumImageRepository.updateIsDefaultByAlbumId(albumId, false);
+        boolean marked = albumImageRepository.markAsDefault(albumId, newDefaultImageId);
+
+        assertThat(marked).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(albumImageRepository.findByAlbumId(albumId))
+                .filteredOn(AlbumImage::getIsDefault)
+                .extracting(AlbumImage::getId)
+                .containsExactly(newDefaultImageId);
+        assertThat(albumImageRepository.findById(otherAlbumImageId).orElseThrow().getIsDefault()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve marcar imagem de outro álbum como padrão")
+    void shouldNotMarkImageFromAnotherAlbum() {
+        assertThat(albumImageRepository.markAsDefault(albumId, otherAlbumImageId)).isFalse();
+    }
+}
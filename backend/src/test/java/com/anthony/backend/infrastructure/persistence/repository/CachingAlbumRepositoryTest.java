@@ -0,0 +1,158 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.domain.model.AlbumImage;
+import com.anthony.backend.domain.model.Artist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CachingAlbumRepository - Testes Unitários")
+class CachingAlbumRepositoryTest {
+
+    private AlbumRepositoryImpl albumDelegate;
+    private ArtistRepositoryImpl artistDelegate;
+    private AlbumImageRepositoryImpl imageDelegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingAlbumRepository albumRepository;
+    private CachingArtistRepository artistRepository;
+    private CachingAlbumImageRepository albumImageRepository;
+
+    @BeforeEach
+    void setUp() {
+        albumDelegate = mock(AlbumRepositoryImpl.class);
+        artistDelegate = mock(ArtistRepositoryImpl.class);
+        imageDelegate = mock(AlbumImageRepositoryImpl.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        CatalogCache catalogCache = new CatalogCache(meterRegistry, Duration.ofMinutes(5), 100);
+        albumRepository = new CachingAlbumRepository(albumDelegate, catalogCache);
+        artistRepository = new CachingArtistRepository(artistDelegate, catalogCache);
+        albumImageRepository = new CachingAlbumImageRepository(imageDelegate, catalogCache);
+    }
+
+    @Test
+    @DisplayName("Segunda leitura deve vir do cache e devolver cópia independente")
+    void shouldServeRepeatedReadsFromCacheAsCopies() {
+        when(albumDelegate.findById(1L)).thenReturn(Optional.of(album(1L, "Harakiri", artist(10L, "Serj Tankian"))));
+
+        Album first = albumRepository.findById(1L).orElseThrow();
+        first.setTitle("alterado");
+        first.getImages().get(0).setFileUrl("https://presigned");
+        Album second = albumRepository.findById(1L).orElseThrow();
+
+        verify(albumDelegate, times(1)).findById(1L);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTitle()).isEqualTo("Harakiri");
+        assertThat(second.getImages().get(0).getFileUrl()).isNull();
+        assertThat(meterRegistry.get("catalog.cache.hit.ratio").tag("cache", "albums").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Álbum inexistente não deve ser armazenado")
+    void shouldNotCacheMisses() {
+        when(albumDelegate.findById(2L)).thenReturn(Optional.empty());
+
+        assertThat(albumRepository.findById(2L)).isEmpty();
+        assertThat(albumRepository.findById(2L)).isEmpty();
+
+        verify(albumDelegate, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Mover álbum entre artistas deve invalidar o álbum e os dois artistas")
+    void movingAlbumShouldEvictBothArtists() {
+        Artist oldArtist = artist(10L, "Serj Tankian");
+        Artist newArtist = artist(20L, "Mike Shinoda");
+        when(albumDelegate.findById(1L)).thenReturn(Optional.of(album(1L, "Harakiri", oldArtist)));
+        when(artistDelegate.findById(10L)).thenReturn(Optional.of(oldArtist));
+        when(artistDelegate.findById(20L)).thenReturn(Optional.of(newArtist));
+        albumRepository.findById(1L);
+        artistRepository.findById(10L);
+        artistRepository.findById(20L);
+
+        Album moved = album(1L, "Harakiri", newArtist);
+        when(albumDelegate.save(any())).thenReturn(moved);
+        albumRepository.save(moved);
+
+        albumRepository.findById(1L);
+        artistRepository.findById(10L);
+        artistRepository.findById(20L);
+        verify(artistDelegate, times(2)).findById(10L);
+        verify(artistDelegate, times(2)).findById(20L);
+        verify(albumDelegate, never()).findArtistIdById(any());
+    }
+
+    @Test
+    @DisplayName("Escrita de álbum fora do cache deve consultar só o id do artista, sem carregar o álbum")
+    void writesOnUncachedAlbumShouldUseArtistIdProjection() {
+        Artist oldArtist = artist(10L, "Serj Tankian");
+        when(artistDelegate.findById(10L)).thenReturn(Optional.of(oldArtist));
+        when(albumDelegate.findArtistIdById(1L)).thenReturn(Optional.of(10L));
+        artistRepository.findById(10L);
+
+        Album moved = album(1L, "Harakiri", artist(20L, "Mike Shinoda"));
+        when(albumDelegate.save(any())).thenReturn(moved);
+        albumRepository.save(moved);
+        artistRepository.findById(10L);
+        albumRepository.deleteById(1L);
+
+        verify(albumDelegate, never()).findById(any());
+        verify(albumDelegate, times(2)).findArtistIdById(1L);
+        verify(artistDelegate, times(2)).findById(10L);
+    }
+
+    @Test
+    @DisplayName("Renomear artista deve invalidar os álbuns dele em cache")
+    void renamingArtistShouldEvictItsAlbums() {
+        Artist artist = artist(10L, "Serj Tankian");
+        when(albumDelegate.findById(1L)).thenReturn(Optional.of(album(1L, "Harakiri", artist)));
+        when(albumDelegate.findById(2L)).thenReturn(Optional.of(album(2L, "Hybrid Theory", artist(20L, "Linkin Park"))));
+        albumRepository.findById(1L);
+        albumRepository.findById(2L);
+
+        when(artistDelegate.save(any())).thenReturn(artist(10L, "Serj"));
+        artistRepository.save(artist(10L, "Serj"));
+        albumRepository.findById(1L);
+        albumRepository.findById(2L);
+
+        verify(albumDelegate, times(2)).findById(1L);
+        verify(albumDelegate, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Alterações nas imagens devem invalidar o álbum")
+    void imageChangesShouldEvictAlbum() {
+        when(albumDelegate.findById(1L)).thenReturn(Optional.of(album(1L, "Harakiri", artist(10L, "Serj Tankian"))));
+        albumRepository.findById(1L);
+
+        albumImageRepository.markRenditionsReady("album-1/cover.jpg");
+        albumRepository.findById(1L);
+        albumImageRepository.markAsDefault(1L, 5L);
+        albumRepository.findById(1L);
+
+        verify(albumDelegate, times(3)).findById(1L);
+    }
+
+    private Artist artist(Long id, String name) {
+        return Artist.builder().id(id).name(name).build();
+    }
+
+    private Album album(Long id, String title, Artist artist) {
+        Album album = Album.builder().id(id).title(title).artist(artist).build();
+        album.getImages().add(AlbumImage.builder().id(5L).fileKey("album-" + id + "/cover.jpg").isDefault(true).build());
+        return album;
+    }
+}
@@ -0,0 +1,47 @@
+package com.anthony.backend.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RowCountEstimator - Testes Unitários")
+class RowCountEstimatorTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("Deve voltar a consultar o planner depois de uma falha transitória")
+    void shouldRetryPlannerAfterTransientFailure() {
+        RowCountEstimator estimator = new RowCountEstimator(jdbcTemplate, Duration.ZERO, Duration.ofMinutes(1), Duration.ofMinutes(10), 100);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("album")))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(42L);
+
+        assertThat(estimator.estimateTable("album", () -> 7L)).isEqualTo(7L);
+        assertThat(estimator.estimateTable("album", () -> 7L)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Deve usar a contagem em cache sem consultar o planner durante o intervalo de retry")
+    void shouldSkipPlannerDuringRetryInterval() {
+        RowCountEstimator estimator = new RowCountEstimator(jdbcTemplate, Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ofMinutes(10), 100);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("album")))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(estimator.estimateTable("album", () -> 7L)).isEqualTo(7L);
+        assertThat(estimator.estimateTable("album", () -> 8L)).isEqualTo(7L);
+
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), eq("album"));
+    }
+}
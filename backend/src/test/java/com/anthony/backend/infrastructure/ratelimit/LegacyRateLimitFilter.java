@@ -0,0 +1,77 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import com.anthony.backend.domain.model.User;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Implementação anterior do RateLimitFilter (String.valueOf e String.format por requisição), usada como referência
+// de alocação no RateLimitFilterTest e no RateLimitFilterBenchmark
+class LegacyRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_AUTHORITY = "ROLE_" + User.Role.ADMIN.name();
+
+    private final RateLimitService rateLimitService;
+
+    LegacyRateLimitFilter(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() ||
+            authentication.getPrincipal().equals("anonymousUser")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        User.Role role = resolveRole(authentication);
+        RateLimitGroup group = RateLimitGroup.of(request);
+        ConsumptionProbe probe = rateLimitService.tryConsume(authentication.getName(), role, group);
+        String limit = String.valueOf(rateLimitService.getCapacity(role, group));
+
+        if (probe.isConsumed()) {
+            response.addHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
+            response.addHeader("X-Rate-Limit-Limit", limit);
+            response.addHeader("X-Rate-Limit-Reset", String.valueOf(probe.getNanosToWaitForRefill() / 1_000_000_000));
+            filterChain.doFilter(request, response);
+        } else {
+            long waitForRefill = probe.getNanosToWaitForRefill() / 1_000_000_000;
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType("application/json");
+            response.addHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(waitForRefill));
+            response.addHeader("X-Rate-Limit-Remaining", "0");
+            response.addHeader("X-Rate-Limit-Limit", limit);
+            response.getWriter().write(String.format(
+                    "{\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded. Try again in %d seconds.\",\"retryAfter\":%d}",
+                    waitForRefill, waitForRefill
+            ));
+        }
+    }
+
+    private static User.Role resolveRole(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ADMIN_AUTHORITY.equals(authority.getAuthority())) {
+                return User.Role.ADMIN;
+            }
+        }
+        return User.Role.USER;
+    }
+}
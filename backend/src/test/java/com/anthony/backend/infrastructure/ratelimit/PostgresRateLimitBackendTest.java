@@ -0,0 +1,122 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostgresRateLimitBackend - Testes com H2 em modo PostgreSQL")
+class PostgresRateLimitBackendTest {
+
+    private static final BucketConfiguration CONFIGURATION = configuration(5);
+    private static final BucketConfiguration LARGE_CONFIGURATION = configuration(100);
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE rate_limit_bucket (id VARCHAR(255) PRIMARY KEY, state BYTEA, expires_at BIGINT)");
+    }
+
+    @Test
+    @DisplayName("Réplicas diferentes devem compartilhar a mesma cota")
+    void replicasShouldShareQuota() {
+        Bucket nodeA = backend(0).createBucket("default:user:john", CONFIGURATION);
+        Bucket nodeB = backend(0).createBucket("default:user:john", CONFIGURATION);
+
+        assertThat(nodeA.tryConsume(3)).isTrue();
+        assertThat(nodeB.getAvailableTokens()).isEqualTo(2);
+        assertThat(nodeB.tryConsume(2)).isTrue();
+        assertThat(nodeA.tryConsume(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Consumo local deve ser sincronizado com o banco ao atingir o limite configurado")
+    void localConsumptionShouldBeSynchronizedAfterThreshold() {
+        Bucket nodeA = backend(2).createBucket("search:user:mary", LARGE_CONFIGURATION);
+        Bucket nodeB = backend(0).createBucket("search:user:mary", LARGE_CONFIGURATION);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(nodeA.tryConsume(1)).isTrue();
+        }
+
+        // Com até 2 tokens pendentes localmente, pelo menos 2 dos 4 consumos já chegaram ao banco
+        assertThat(nodeB.getAvailableTokens()).isLessThanOrEqualTo(98);
+    }
+
+    @Test
+    @DisplayName("Buckets pequenos não devem multiplicar a cota entre réplicas com limite de sincronização")
+    void smallBucketsShouldNotBeMultipliedAcrossReplicas() {
+        Bucket nodeA = backend(5).createBucket("upload:user:ana", CONFIGURATION);
+        Bucket nodeB = backend(5).createBucket("upload:user:ana", CONFIGURATION);
+
+        assertThat(consumeAlternately(nodeA, nodeB, 20)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Excesso entre réplicas deve ficar limitado à fração da capacidade por réplica")
+    void excessAcrossReplicasShouldBeBoundedByFraction() {
+        PostgresRateLimitBackend backendA = backend(50);
+        Bucket nodeA = backendA.createBucket("search:user:bob", LARGE_CONFIGURATION);
+        Bucket nodeB = backend(50).createBucket("search:user:bob", LARGE_CONFIGURATION);
+
+        assertThat(backendA.unsynchronizedThreshold(LARGE_CONFIGURATION)).isEqualTo(10);
+        assertThat(backendA.unsynchronizedThreshold(CONFIGURATION)).isZero();
+        assertThat(consumeAlternately(nodeA, nodeB, 300)).isBetween(100, 120);
+    }
+
+    @Test
+    @DisplayName("Deve remover da tabela apenas os buckets expirados")
+    void shouldRemoveOnlyExpiredBuckets() {
+        PostgresRateLimitBackend backend = backend(0);
+        backend.createBucket("default:user:john", CONFIGURATION).tryConsume(1);
+        Long expiresAt = jdbcTemplate.queryForObject("SELECT expires_at FROM rate_limit_bucket WHERE id = 'default:user:john'", Long.class);
+
+        // Recarga em intervalo: o bucket só volta a ficar cheio no fim do período de 1 minuto, mais 1 minuto de folga
+        assertThat(expiresAt).isBetween(System.currentTimeMillis() + 110_000, System.currentTimeMillis() + 121_000);
+
+        backend.removeExpired();
+        assertThat(countRows()).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE rate_limit_bucket SET expires_at = ?", System.currentTimeMillis() - 1);
+        backend.removeExpired();
+        assertThat(countRows()).isZero();
+    }
+
+    private PostgresRateLimitBackend backend(long maxUnsynchronizedTokens) {
+        return new PostgresRateLimitBackend(dataSource, maxUnsynchronizedTokens, 0.1, Duration.ofMinutes(1), Duration.ofMinutes(1), 1000);
+    }
+
+    private int consumeAlternately(Bucket nodeA, Bucket nodeB, int attempts) {
+        int accepted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if ((i % 2 == 0 ? nodeA : nodeB).tryConsume(1)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    private Integer countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_bucket", Integer.class);
+    }
+
+    private static BucketConfiguration configuration(long capacity) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder().capacity(capacity).refillIntervally(capacity, Duration.ofMinutes(1)).build())
+                .build();
+    }
+}
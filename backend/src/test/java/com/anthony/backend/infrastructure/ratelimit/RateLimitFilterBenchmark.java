@@ -0,0 +1,87 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// Compara a alocação por requisição do RateLimitFilter com a implementação anterior, nos caminhos aceito e rejeitado.
+// Execução (após mvn test-compile), olhando a coluna gc.alloc.rate.norm (bytes/op):
+//   java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+//       com.anthony.backend.infrastructure.ratelimit.RateLimitFilterBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    @State(Scope.Thread)
+    public static class FilterState {
+
+        RateLimitFilterFixture fixture;
+        RateLimitFilter filter;
+        LegacyRateLimitFilter legacyFilter;
+
+        @Setup
+        public void setUp() throws Exception {
+            fixture = new RateLimitFilterFixture();
+            filter = new RateLimitFilter(fixture.rateLimitService);
+            legacyFilter = new LegacyRateLimitFilter(fixture.rateLimitService);
+
+            // Esgota a cota do USER para que as requisições seguintes caiam no caminho rejeitado
+            SecurityContextHolder.getContext().setAuthentication(RateLimitFilterFixture.REJECTED);
+            filter.doFilterInternal(fixture.request, fixture.response, RateLimitFilterFixture.NO_OP_CHAIN);
+        }
+
+        @TearDown
+        public void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void accepted(FilterState state) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(RateLimitFilterFixture.ACCEPTED);
+        state.filter.doFilterInternal(state.fixture.request, state.fixture.response, RateLimitFilterFixture.NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void acceptedLegacy(FilterState state) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(RateLimitFilterFixture.ACCEPTED);
+        state.legacyFilter.doFilterInternal(state.fixture.request, state.fixture.response, RateLimitFilterFixture.NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void rejected(FilterState state) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(RateLimitFilterFixture.REJECTED);
+        state.filter.doFilterInternal(state.fixture.request, state.fixture.response, RateLimitFilterFixture.NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void rejectedLegacy(FilterState state) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(RateLimitFilterFixture.REJECTED);
+        state.legacyFilter.doFilterInternal(state.fixture.request, state.fixture.response, RateLimitFilterFixture.NO_OP_CHAIN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimitFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
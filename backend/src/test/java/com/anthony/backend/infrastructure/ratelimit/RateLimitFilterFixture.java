@@ -0,0 +1,99 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.List;
+
+// Cenário comum às medições de alocação do filtro: ADMIN é reabastecido a cada microssegundo e nunca esgota a cota
+// (caminho aceito, com tokens restantes na faixa pré-formatada) e USER fica sem tokens após a primeira requisição
+// (caminho rejeitado)
+final class RateLimitFilterFixture {
+
+    static final Authentication ACCEPTED = new UsernamePasswordAuthenticationToken(
+            "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    static final Authentication REJECTED = new UsernamePasswordAuthenticationToken(
+            "john", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    final RateLimitService rateLimitService;
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/album");
+    final DiscardingResponse response = new DiscardingResponse();
+
+    RateLimitFilterFixture() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("rate-limit.default.capacity", "1")
+                .withProperty("rate-limit.default.period", "1h")
+                .withProperty("rate-limit.default.admin.capacity", "500")
+                .withProperty("rate-limit.default.admin.period", "1us");
+        rateLimitService = new RateLimitService(environment, new SimpleMeterRegistry(),
+                new LocalRateLimitBackend(), 100, Duration.ofHours(1));
+    }
+
+    // Resposta que descarta cabeçalhos e corpo, para que a medição conte só o que o filtro aloca
+    static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+        private final PrintWriter writer = new PrintWriter(Writer.nullWriter());
+
+        DiscardingResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+        }
+
+        @Override
+        public void setStatus(int sc) {
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.anthony.backend.infrastructure.ratelimit;
+
+import com.anthony.backend.domain.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimitService - Testes Unitários")
+class RateLimitServiceTest {
+
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("rate-limit.default.capacity", "3")
+                .withProperty("rate-limit.default.period", "1m")
+                .withProperty("rate-limit.default.admin.capacity", "6")
+                .withProperty("rate-limit.upload.capacity", "1");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve resolver limites por role e grupo de endpoint")
+    void shouldResolveLimitsByRoleAndGroup() {
+        RateLimitService service = new RateLimitService(environment, meterRegistry, new LocalRateLimitBackend(), 100, Duration.ofMinutes(10));
+
+        assertThat(service.getCapacity(User.Role.USER, RateLimitGroup.DEFAULT)).isEqualTo(3);
+        assertThat(service.getCapacity(User.Role.ADMIN, RateLimitGroup.DEFAULT)).isEqualTo(6);
+        assertThat(service.getCapacity(User.Role.ADMIN, RateLimitGroup.SEARCH)).isEqualTo(6);
+        assertThat(service.getCapacity(User.Role.ADMIN, RateLimitGroup.UPLOAD)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar rejeições e manter buckets separados por grupo")
+    void shouldCountRejectionsAndKeepBucketsPerGroup() {
+        RateLimitService service = new RateLimitService(environment, meterRegistry, new LocalRateLimitBackend(), 100, Duration.ofMinutes(10));
+
+        assertThat(service.tryConsume("user", User.Role.USER, RateLimitGroup.UPLOAD).isConsumed()).isTrue();
+        assertThat(service.tryConsume("user", User.Role.USER, RateLimitGroup.UPLOAD).isConsumed()).isFalse();
+        assertThat(service.tryConsume("user", User.Role.USER, RateLimitGroup.DEFAULT).getRemainingTokens()).isEqualTo(2);
+
+        assertThat(meterRegistry.get("rate.limit.rejections").tag("group", "upload").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("rate.limit.rejections").tag("group", "default").counter().count()).isZero();
+        assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar expiração menor que o período de reabastecimento")
+    void shouldRejectExpiryShorterThanRefillPeriod() {
+        assertThatThrownBy(() -> new RateLimitService(environment, meterRegistry, new LocalRateLimitBackend(), 100, Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.anthony.backend.infrastructure.security;
+
+import com.anthony.backend.domain.model.User;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Compara uma requisição autenticada pelo JwtAuthenticationFilter com o token ainda não verificado
+// (cache de claims desligado: verificação HMAC e parse do JSON a cada chamada) e com as claims já em cache.
+// Usa o modo stateless para isolar o custo do token da busca do usuário.
+// Execução (após mvn test-compile):
+//   java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+//       com.anthony.backend.infrastructure.security.JwtAuthenticationFilterBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @State(Scope.Thread)
+    public static class FilterState {
+
+        JwtAuthenticationFilter uncachedFilter;
+        JwtAuthenticationFilter cachedFilter;
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp() {
+            JwtService uncached = new JwtService(SECRET, 300_000, 1_800_000, 0);
+            JwtService cached = new JwtService(SECRET, 300_000, 1_800_000, 10_000);
+            UserDetailsCache userDetailsCache = new UserDetailsCache(null, Duration.ZERO, 0);
+            uncachedFilter = new JwtAuthenticationFilter(uncached, userDetailsCache, true);
+            cachedFilter = new JwtAuthenticationFilter(cached, userDetailsCache, true);
+
+            User admin = User.builder().id(1L).username("admin").password("secret").role(User.Role.ADMIN).build();
+            request = new MockHttpServletRequest("GET", "/api/v1/albums");
+            request.addHeader("Authorization", "Bearer " + cached.generateAccessToken(admin));
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public Authentication uncachedParse(FilterState state) throws Exception {
+        return authenticate(state.uncachedFilter, state);
+    }
+
+    @Benchmark
+    public Authentication cacheHit(FilterState state) throws Exception {
+        return authenticate(state.cachedFilter, state);
+    }
+
+    private static Authentication authenticate(JwtAuthenticationFilter filter, FilterState state) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(state.request, state.response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.anthony.backend.infrastructure.security;
+
+import com.anthony.backend.domain.model.User;
+import com.anthony.backend.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtAuthenticationFilter - Testes Unitários")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private UserRepository userRepository;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 300000, 1800000, 100);
+        userRepository = mock(UserRepository.class);
+        admin = User.builder().id(1L).username("admin").password("secret").role(User.Role.ADMIN).build();
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(admin));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Modo stateless deve autenticar pelas claims sem consultar o banco")
+    void statelessModeShouldAuthenticateFromClaims() throws Exception {
+        JwtAuthenticationFilter filter = filter(true, Duration.ofMinutes(1));
+
+        Authentication authentication = authenticate(filter, jwtService.generateAccessToken(admin));
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("admin");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Modo stateless não deve aceitar refresh token")
+    void statelessModeShouldRejectRefreshToken() throws Exception {
+        JwtAuthenticationFilter filter = filter(true, Duration.ofMinutes(1));
+
+        assertThat(authenticate(filter, jwtService.generateRefreshToken(admin))).isNull();
+    }
+
+    @Test
+    @DisplayName("Modo banco deve reutilizar usuário em cache entre requisições")
+    void databaseModeShouldReuseCachedUser() throws Exception {
+        JwtAuthenticationFilter filter = filter(false, Duration.ofMinutes(1));
+        String token = jwtService.generateAccessToken(admin);
+
+        authenticate(filter, token);
+        Authentication authentication = authenticate(filter, token);
+
+        assertThat(authentication.getPrincipal()).isSameAs(admin);
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Usuário removido do cache deve ser consultado novamente")
+    void evictedUserShouldBeReloaded() throws Exception {
+        UserDetailsCache cache = new UserDetailsCache(userRepository, Duration.ofMinutes(1), 100);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, cache, false);
+        String token = jwtService.generateAccessToken(admin);
+
+        authenticate(filter, token);
+        cache.evict("admin");
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.empty());
+
+        assertThat(authenticate(filter, token)).isNull();
+        verify(userRepository, times(2)).findByUsername("admin");
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless, Duration ttl) {
+        return new JwtAuthenticationFilter(jwtService, new UserDetailsCache(userRepository, ttl, 100), stateless);
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/albums");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
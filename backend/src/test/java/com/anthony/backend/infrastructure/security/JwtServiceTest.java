@@ -0,0 +1,82 @@
+package com.anthony.backend.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtService - Testes Unitários")
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 300000, 1800000, 100);
+        user = User.withUsername("admin").password("secret").authorities("ROLE_ADMIN").build();
+    }
+
+    @Test
+    @DisplayName("Deve validar token e devolver claims verificadas")
+    void shouldVerifyTokenAndReturnClaims() {
+        String token = jwtService.generateAccessToken(user);
+
+        Optional<Claims> claims = jwtService.verifyToken(token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("admin");
+        assertThat(claims.get().get("type", String.class)).isEqualTo("ACCESS");
+        assertThat(jwtService.isTokenValid(token, user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar claims já verificadas do mesmo token")
+    void shouldReuseCachedClaimsForSameToken() {
+        String token = jwtService.generateAccessToken(user);
+
+        Claims first = jwtService.verifyToken(token).orElseThrow();
+        Claims second = jwtService.verifyToken(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtService.extractUsername(token)).isEqualTo("admin");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com assinatura adulterada")
+    void shouldRejectTamperedToken() {
+        String token = jwtService.generateAccessToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtService.verifyToken(tampered)).isEmpty();
+        assertThat(jwtService.isTokenValid(tampered, user)).isFalse();
+        assertThat(jwtService.verifyToken("invalid")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void shouldRejectExpiredToken() {
+        JwtService expiredTokens = new JwtService(SECRET, -1000, -1000, 100);
+        String token = expiredTokens.generateAccessToken(user);
+
+        assertThat(jwtService.verifyToken(token)).isEmpty();
+        assertThat(jwtService.isTokenValid(token, user)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token de outro usuário")
+    void shouldRejectTokenFromAnotherUser() {
+        UserDetails other = User.withUsername("other").password("secret").authorities("ROLE_USER").build();
+        String token = jwtService.generateAccessToken(other);
+
+        assertThat(jwtService.isTokenValid(token, user)).isFalse();
+    }
+}
@@ -0,0 +1,108 @@
+package com.anthony.backend.infrastructure.storage;
+
+import com.anthony.backend.domain.exception.InvalidRenditionSizeExceptionHandler;
+import com.anthony.backend.domain.repository.AlbumImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ImageRenditionService - Testes Unitários")
+class ImageRenditionServiceTest {
+
+    @Mock
+    private MinioStorageService minioStorageService;
+
+    @Mock
+    private AlbumImageRepository albumImageRepository;
+
+    private ImageRenditionService imageRenditionService;
+
+    @BeforeEach
+    void setUp() {
+        imageRenditionService = new ImageRenditionService(minioStorageService, albumImageRepository,
+                Runnable::run, List.of(512, 128), 0.85f);
+    }
+
+    @Test
+    @DisplayName("Deve gerar miniaturas JPEG proporcionais e marcar a imagem como pronta")
+    void shouldGenerateJpegRenditions() throws IOException {
+        when(minioStorageService.downloadFile("album-1/cover.jpg")).thenReturn(encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg"));
+
+        imageRenditionService.generate("album-1/cover.jpg");
+
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(minioStorageService).uploadBytes(eq("album-1/cover_128.jpg"), content.capture(), eq("image/jpeg"));
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(content.getValue()));
+        assertThat(small.getWidth()).isEqualTo(128);
+        assertThat(small.getHeight()).isEqualTo(64);
+
+        verify(minioStorageService).uploadBytes(eq("album-1/cover_512.jpg"), any(), eq("image/jpeg"));
+        verify(albumImageRepository).markRenditionsReady("album-1/cover.jpg");
+    }
+
+    @Test
+    @DisplayName("Deve manter PNG com transparência e não ampliar imagens pequenas")
+    void shouldKeepPngAndNotUpscale() throws IOException {
+        when(minioStorageService.downloadFile("album-1/logo.png")).thenReturn(encode(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), "png"));
+
+        imageRenditionService.generate("album-1/logo.png");
+
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(minioStorageService).uploadBytes(eq("album-1/logo_512.png"), content.capture(), eq("image/png"));
+        BufferedImage large = ImageIO.read(new ByteArrayInputStream(content.getValue()));
+        assertThat(large.getWidth()).isEqualTo(200);
+        assertThat(large.getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve marcar como pronta quando o arquivo não é uma imagem")
+    void shouldNotMarkReadyWhenFileIsNotAnImage() {
+        when(minioStorageService.downloadFile("album-1/broken.jpg")).thenReturn(new byte[]{1, 2, 3});
+
+        imageRenditionService.generateAsync(List.of("album-1/broken.jpg"));
+
+        verify(minioStorageService, never()).uploadBytes(anyString(), any(), anyString());
+        verify(albumImageRepository, never()).markRenditionsReady(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve derivar chaves das miniaturas e validar tamanhos")
+    void shouldDeriveKeysAndValidateSizes() {
+        assertThat(ImageRenditionService.renditionKey("album-1/abc.jpeg", 128)).isEqualTo("album-1/abc_128.jpg");
+        assertThat(ImageRenditionService.renditionKey("album-1/abc.PNG", 512)).isEqualTo("album-1/abc_512.png");
+        assertThat(imageRenditionService.getSizes()).containsExactly(128, 512);
+
+        imageRenditionService.validateSize(null);
+        imageRenditionService.validateSize(128);
+        assertThatThrownBy(() -> imageRenditionService.validateSize(300))
+                .isInstanceOf(InvalidRenditionSizeExceptionHandler.class);
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
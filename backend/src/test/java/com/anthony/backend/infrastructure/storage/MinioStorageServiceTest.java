@@ -0,0 +1,106 @@
+package com.anthony.backend.infrastructure.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MinioStorageService - Testes Unitários")
+class MinioStorageServiceTest {
+
+    @Mock
+    private MinioClient minioClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MinioStorageService minioStorageService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        minioStorageService = new MinioStorageService(
+                minioClient, meterRegistry, "album-images",
+                Duration.ofMinutes(30), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar URL pré-assinada em cache para a mesma chave")
+    void shouldReuseCachedPresignedUrl() throws Exception {
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("https://minio/url-1", "https://minio/url-2");
+
+        String first = minioStorageService.getPresignedUrl("album-1/image.jpg");
+        String second = minioStorageService.getPresignedUrl("album-1/image.jpg");
+
+        assertThat(first).isEqualTo("https://minio/url-1");
+        assertThat(second).isEqualTo(first);
+        verify(minioClient, times(1)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar URL em cache ao deletar arquivo")
+    void shouldInvalidateCachedUrlWhenDeletingFile() throws Exception {
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("https://minio/url-1", "https://minio/url-2");
+
+        minioStorageService.getPresignedUrl("album-1/image.jpg");
+        minioStorageService.deleteFile("album-1/image.jpg");
+        String afterDelete = minioStorageService.getPresignedUrl("album-1/image.jpg");
+
+        assertThat(afterDelete).isEqualTo("https://minio/url-2");
+        verify(minioClient).removeObject(any(RemoveObjectArgs.class));
+        verify(minioClient, times(2)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+    }
+
+    @Test
+    @DisplayName("Deve assinar em lote apenas as chaves ausentes do cache")
+    void shouldSignOnlyMissingKeysInBatch() throws Exception {
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("https://minio/a", "https://minio/b", "https://minio/c");
+
+        minioStorageService.getPresignedUrl("album-1/a.jpg");
+        Map<String, String> urls = minioStorageService.getPresignedUrls(
+                List.of("album-1/a.jpg", "album-1/b.jpg", "album-1/c.jpg", "album-1/b.jpg"));
+
+        assertThat(urls).hasSize(3);
+        assertThat(urls.get("album-1/a.jpg")).isEqualTo("https://minio/a");
+        assertThat(urls.values()).containsExactlyInAnyOrder("https://minio/a", "https://minio/b", "https://minio/c");
+        verify(minioClient, times(3)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar mapa vazio para lote vazio")
+    void shouldReturnEmptyMapForEmptyBatch() throws Exception {
+        assertThat(minioStorageService.getPresignedUrls(List.of())).isEmpty();
+        verify(minioClient, never()).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar margem de segurança maior que a expiração da URL")
+    void shouldRejectSafetyMarginLongerThanExpiry() {
+        assertThatThrownBy(() -> new MinioStorageService(
+                minioClient, meterRegistry, "album-images",
+                Duration.ofMinutes(5), Duration.ofMinutes(5), 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.anthony.backend.infrastructure.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.http.Method;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Compara a assinatura por imagem (comportamento anterior, uma chamada ao SDK por chave) com o lote de
+// getPresignedUrls, com cache vazio e aquecido. A assinatura é local (com região fixa o SDK não consulta o servidor).
+// Execução (após mvn test-compile):
+//   java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+//       com.anthony.backend.infrastructure.storage.PresignedUrlBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresignedUrlBenchmark {
+
+    private static final String BUCKET = "album-images";
+    private static final Duration EXPIRY = Duration.ofMinutes(30);
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        @Param({"10", "100", "1000"})
+        int count;
+
+        MinioClient minioClient;
+        List<String> fileKeys;
+        MinioStorageService warmService;
+        MinioStorageService coldService;
+
+        @Setup
+        public void setUp() {
+            minioClient = MinioClient.builder()
+                    .endpoint("http://localhost:9000")
+                    .region("us-east-1")
+                    .credentials("minioadmin", "minioadmin")
+                    .build();
+            fileKeys = IntStream.range(0, count)
+                    .mapToObj(i -> "album-" + i + "/" + i + "-cover.jpg")
+                    .toList();
+            warmService = newService();
+            warmService.getPresignedUrls(fileKeys);
+        }
+
+        // Cache vazio a cada chamada: mede a assinatura de todas as chaves do lote
+        @Setup(Level.Invocation)
+        public void resetColdService() {
+            coldService = newService();
+        }
+
+        private MinioStorageService newService() {
+            return new MinioStorageService(minioClient, new SimpleMeterRegistry(), BUCKET,
+                    EXPIRY, Duration.ofMinutes(5), 10_000);
+        }
+    }
+
+    @Benchmark
+    public void perKeySigning(Keys keys, Blackhole blackhole) throws Exception {
+        for (String fileKey : keys.fileKeys) {
+            blackhole.consume(keys.minioClient.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                    .method(Method.GET)
+                    .bucket(BUCKET)
+                    .object(fileKey)
+                    .expiry((int) EXPIRY.toSeconds(), TimeUnit.SECONDS)
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> batchColdCache(Keys keys) {
+        return keys.coldService.getPresignedUrls(keys.fileKeys);
+    }
+
+    @Benchmark
+    public void perKeyWarmCache(Keys keys, Blackhole blackhole) {
+        for (String fileKey : keys.fileKeys) {
+            blackhole.consume(keys.warmService.getPresignedUrl(fileKey));
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> batchWarmCache(Keys keys) {
+        return keys.warmService.getPresignedUrls(keys.fileKeys);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PresignedUrlBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
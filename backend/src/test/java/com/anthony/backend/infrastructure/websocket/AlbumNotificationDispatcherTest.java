@@ -0,0 +1,102 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.controller.dto.notification.AlbumEventsNotificationDTO;
+import com.anthony.backend.controller.dto.notification.AlbumNotificationDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AlbumNotificationDispatcher - Testes Unitários")
+class AlbumNotificationDispatcherTest {
+
+    private SimpMessagingTemplate messagingTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar eventos em um único frame ALBUM_EVENTS")
+    void shouldBatchEventsIntoSingleFrame() {
+        AlbumNotificationDispatcher dispatcher = dispatcher(100);
+
+        dispatcher.publish(List.of(event(1L, 1L, "ALBUM_CREATED", "A"), event(2L, 2L, "ALBUM_CREATED", "B")));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/albums"), payload.capture());
+        AlbumEventsNotificationDTO frame = (AlbumEventsNotificationDTO) payload.getValue();
+        assertThat(frame.getType()).isEqualTo("ALBUM_EVENTS");
+        assertThat(frame.getLastSequence()).isEqualTo(2L);
+        assertThat(frame.getEvents()).extracting(AlbumNotificationDTO::getId).containsExactly(1L, 2L);
+        assertThat(meterRegistry.get("notifications.frames.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve enviar evento isolado no formato original")
+    void shouldSendSingleEventUnwrapped() {
+        AlbumNotificationDispatcher dispatcher = dispatcher(100);
+        AlbumNotificationDTO created = event(1L, 1L, "ALBUM_CREATED", "A");
+
+        dispatcher.publish(List.of(created));
+
+        verify(messagingTemplate).convertAndSend("/topic/albums", created);
+    }
+
+    @Test
+    @DisplayName("Deve mesclar eventos do mesmo álbum")
+    void shouldMergeEventsOfSameAlbum() {
+        List<AlbumNotificationDTO> events = AlbumNotificationDispatcher.coalesce(List.of(
+                event(1L, 1L, "ALBUM_CREATED", "A"),
+                event(2L, 1L, "ALBUM_UPDATED", "A2"),
+                event(3L, 2L, "ALBUM_CREATED", "B"),
+                event(4L, 2L, "ALBUM_DELETED", "B"),
+                event(5L, 3L, "ALBUM_UPDATED", "C"),
+                event(6L, 3L, "ALBUM_DELETED", "C"),
+                event(7L, 1L, "ALBUM_IMAGES_UPDATED", null)
+        ));
+
+        assertThat(events).extracting(AlbumNotificationDTO::getSequence).containsExactly(2L, 6L, 7L);
+        assertThat(events.get(0).getType()).isEqualTo("ALBUM_CREATED");
+        assertThat(events.get(0).getTitle()).isEqualTo("A2");
+        assertThat(events.get(1).getType()).isEqualTo("ALBUM_DELETED");
+        assertThat(events.get(2).getType()).isEqualTo("ALBUM_IMAGES_UPDATED");
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo de lote")
+    void shouldSplitEventsByMaxBatchSize() {
+        AlbumNotificationDispatcher dispatcher = dispatcher(2);
+        List<AlbumNotificationDTO> events = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            events.add(event(id, id, "ALBUM_CREATED", "T" + id));
+        }
+
+        dispatcher.publish(events);
+
+        verify(messagingTemplate, times(3)).convertAndSend(eq("/topic/albums"), any(Object.class));
+    }
+
+    private AlbumNotificationDispatcher dispatcher(int maxBatchSize) {
+        return new AlbumNotificationDispatcher(messagingTemplate, meterRegistry, maxBatchSize);
+    }
+
+    private static AlbumNotificationDTO event(Long sequence, Long id, String type, String title) {
+        return AlbumNotificationDTO.builder().sequence(sequence).id(id).type(type).title(title).build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.application.service.WebSocketNotificationService;
+import com.anthony.backend.controller.dto.notification.AlbumNotificationDTO;
+import com.anthony.backend.domain.model.Album;
+import com.anthony.backend.domain.model.Artist;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventOutboxJpaRepository;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventPublishCursorJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WebSocketNotificationService.class, AlbumOutboxRelay.class, LocalAlbumEventBroadcaster.class, SimpleMeterRegistry.class})
+@DisplayName("AlbumOutboxRelay - Outbox de Eventos")
+class AlbumOutboxRelayTest {
+
+    @Autowired
+    private WebSocketNotificationService notificationService;
+
+    @Autowired
+    private AlbumOutboxRelay relay;
+
+    @Autowired
+    private AlbumEventOutboxJpaRepository outboxRepository;
+
+    @Autowired
+    private AlbumEventPublishCursorJpaRepository cursorRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @MockitoBean
+    private AlbumNotificationDispatcher dispatcher;
+
+    // O teste de commits concorrentes grava fora da transação do teste
+    @AfterEach
+    void cleanUp() {
+        outboxRepository.deleteAll();
+        cursorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve publicar eventos pendentes em ordem e apenas uma vez")
+    @SuppressWarnings("unchecked")
+    void shouldPublishPendingEventsInOrderOnce() {
+        notificationService.notifyAlbumCreated(album(1L, "A"));
+        notificationService.notifyAlbumUpdated(album(1L, "A2"));
+        notificationService.notifyAlbumImagesUpdated(1L);
+
+        relay.relay();
+        relay.relay();
+
+        ArgumentCaptor<List<AlbumNotificationDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher, times(1)).publish(published.capture());
+        assertThat(published.getValue()).extracting(AlbumNotificationDTO::getType)
+                .containsExactly("ALBUM_CREATED", "ALBUM_UPDATED", "ALBUM_IMAGES_UPDATED");
+        assertThat(published.getValue()).extracting(AlbumNotificationDTO::getSequence).isSorted();
+        assertThat(published.getValue().get(0).getArtistName()).isEqualTo("Artist");
+    }
+
+    @Test
+    @DisplayName("Deve manter eventos pendentes quando o envio falhar")
+    void shouldKeepEventsPendingWhenPublishFails() {
+        notificationService.notifyAlbumCreated(album(1L, "A"));
+        doThrow(new IllegalStateException("broker indisponível")).doNothing().when(dispatcher).publish(anyList());
+
+        assertThatThrownBy(() -> relay.relay()).isInstanceOf(IllegalStateException.class);
+
+        relay.relay();
+        verify(dispatcher, times(2)).publish(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve expor a quantidade de eventos pendentes no outbox")
+    void shouldExposeUnpublishedBacklog() {
+        notificationService.notifyAlbumCreated(album(1L, "A"));
+        notificationService.notifyAlbumCreated(album(2L, "B"));
+
+        assertThat(meterRegistry.get("notifications.queue.depth").gauge().value()).isEqualTo(2);
+
+        relay.relay();
+
+        assertThat(meterRegistry.get("notifications.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas eventos posteriores à sequência informada")
+    void shouldReturnEventsAfterSequence() {
+        notificationService.notifyAlbumCreated(album(1L, "A"));
+        notificationService.notifyAlbumCreated(album(2L, "B"));
+        notificationService.notifyAlbumDeleted(album(1L, "A"));
+        relay.relay();
+
+        List<AlbumNotificationDTO> all = notificationService.findEventsAfter(0L, 100);
+        List<AlbumNotificationDTO> afterFirst = notificationService.findEventsAfter(all.get(0).getSequence(), 100);
+
+        assertThat(all).hasSize(3);
+        assertThat(afterFirst).extracting(AlbumNotificationDTO::getType).containsExactly("ALBUM_CREATED", "ALBUM_DELETED");
+        assertThat(afterFirst.get(1).getMessage()).isEqualTo("Álbum deletado: A");
+    }
+
+    @Test
+    @DisplayName("Não deve ser pulado por quem retoma após um evento que commitou antes")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @SuppressWarnings("unchecked")
+    void shouldNotSkipEventCommittedAfterLaterSequence() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // A aloca a sequência de inserção primeiro, mas só commita depois de B
+        CompletableFuture<Void> slowTransaction = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            notificationService.notifyAlbumCreated(album(1L, "A"));
+            recorded.countDown();
+            await(commit);
+        }));
+        assertThat(recorded.await(5, TimeUnit.SECONDS)).isTrue();
+        transactionTemplate.executeWithoutResult(status -> notificationService.notifyAlbumCreated(album(2L, "B")));
+
+        relay.relay();
+        List<AlbumNotificationDTO> resumeFrom = notificationService.findEventsAfter(0L, 100);
+
+        commit.countDown();
+        slowTransaction.get(5, TimeUnit.SECONDS);
+        relay.relay();
+
+        assertThat(outboxRepository.findAll()).hasSize(2)
+                .allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+        assertThat(outboxRepository.findAll().stream()
+                .filter(event -> event.getTitle().equals("A")).findFirst().orElseThrow().getSequence())
+                .isLessThan(outboxRepository.findAll().stream()
+                        .filter(event -> event.getTitle().equals("B")).findFirst().orElseThrow().getSequence());
+
+        assertThat(resumeFrom).extracting(AlbumNotificationDTO::getTitle).containsExactly("B");
+        List<AlbumNotificationDTO> resumed = notificationService.findEventsAfter(resumeFrom.get(0).getSequence(), 100);
+        assertThat(resumed).extracting(AlbumNotificationDTO::getTitle).containsExactly("A");
+        assertThat(resumed.get(0).getSequence()).isGreaterThan(resumeFrom.get(0).getSequence());
+
+        ArgumentCaptor<List<AlbumNotificationDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher, times(2)).publish(published.capture());
+        assertThat(published.getAllValues()).extracting(batch -> batch.get(0).getTitle()).containsExactly("B", "A");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Album album(Long id, String title) {
+        return Album.builder()
+                .id(id)
+                .title(title)
+                .artist(Artist.builder().id(10L).name("Artist").build())
+                .build();
+    }
+}
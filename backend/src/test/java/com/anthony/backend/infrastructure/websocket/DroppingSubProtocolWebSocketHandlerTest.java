@@ -0,0 +1,93 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DroppingSubProtocolWebSocketHandler - Testes Unitários")
+class DroppingSubProtocolWebSocketHandlerTest {
+
+    @Test
+    @DisplayName("Deve registrar o handler com descarte de frames no lugar do padrão")
+    void shouldRegisterDroppingHandler() {
+        assertThat(new WebSocketBrokerConfig(new SimpleMeterRegistry()).subProtocolWebSocketHandler(
+                new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel()))
+                .isInstanceOf(DroppingSubProtocolWebSocketHandler.class);
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar frames antigos de sessão lenta sem encerrá-la")
+    void shouldDropFramesInsteadOfClosingSlowSession() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DroppingSubProtocolWebSocketHandler handler = new DroppingSubProtocolWebSocketHandler(
+                new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel(), meterRegistry);
+        handler.setSendTimeLimit(60_000);
+        handler.setSendBufferSizeLimit(10);
+
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        WebSocketSession slowSession = mock(WebSocketSession.class);
+        when(slowSession.getId()).thenReturn("slow");
+        when(slowSession.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            delivered.add((String) message.getPayload());
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(slowSession).sendMessage(any());
+
+        WebSocketSession session = handler.decorateSession(slowSession);
+        assertThat(((ConcurrentWebSocketSessionDecorator) session).getOverflowStrategy())
+                .isEqualTo(ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> send(session, "first"));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Cada frame tem 6 bytes: com limite de 10 bytes, só o mais recente permanece no buffer
+        assertThatCode(() -> {
+            session.sendMessage(new TextMessage("aaaaaa"));
+            session.sendMessage(new TextMessage("bbbbbb"));
+            session.sendMessage(new TextMessage("cccccc"));
+        }).doesNotThrowAnyException();
+        assertThat(((ConcurrentWebSocketSessionDecorator) session).getBufferSize()).isEqualTo(6);
+        assertThat(meterRegistry.get("notifications.dropped").counter().count()).isEqualTo(2);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(delivered).containsExactly("first", "cccccc");
+        verify(slowSession, never()).close(any(CloseStatus.class));
+        verify(slowSession, never()).close();
+    }
+
+    private static void send(WebSocketSession session, String payload) {
+        try {
+            session.sendMessage(new TextMessage(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
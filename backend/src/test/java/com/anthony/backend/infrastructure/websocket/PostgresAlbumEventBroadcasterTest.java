@@ -0,0 +1,37 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PostgresAlbumEventBroadcaster - Testes Unitários")
+class PostgresAlbumEventBroadcasterTest {
+
+    @Test
+    @DisplayName("Deve notificar só a faixa de sequências do lote, independente do tamanho")
+    void shouldNotifyPublishSequenceRange() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        PostgresAlbumEventBroadcaster broadcaster = new PostgresAlbumEventBroadcaster(jdbcTemplate);
+        List<AlbumEventOutboxEntity> events = LongStream.rangeClosed(1_001, 6_000)
+                .mapToObj(sequence -> AlbumEventOutboxEntity.builder()
+                        .sequence(sequence)
+                        .publishSequence(sequence)
+                        .eventType("ALBUM_CREATED")
+                        .albumId(sequence)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        broadcaster.broadcast(events);
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", PostgresAlbumEventBroadcaster.CHANNEL, "1001,6000");
+    }
+}
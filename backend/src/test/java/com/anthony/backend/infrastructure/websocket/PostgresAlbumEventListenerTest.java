@@ -0,0 +1,105 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import com.anthony.backend.controller.dto.notification.AlbumNotificationDTO;
+import com.anthony.backend.infrastructure.persistence.entity.AlbumEventOutboxEntity;
+import com.anthony.backend.infrastructure.persistence.jpa.AlbumEventOutboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostgresAlbumEventListener - Testes Unitários")
+class PostgresAlbumEventListenerTest {
+
+    private AlbumEventOutboxJpaRepository outboxRepository;
+    private AlbumNotificationDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+    private PostgresAlbumEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(AlbumEventOutboxJpaRepository.class);
+        dispatcher = mock(AlbumNotificationDispatcher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new PostgresAlbumEventListener(mock(DataSource.class), outboxRepository, dispatcher,
+                meterRegistry, Duration.ofSeconds(1), Duration.ofSeconds(5), 200);
+    }
+
+    @Test
+    @DisplayName("Deve publicar os eventos da faixa notificada na ordem da sequência")
+    void shouldPublishNotifiedRangeInSequenceOrder() {
+        when(outboxRepository.findByPublishSequenceBetweenOrderByPublishSequenceAsc(5L, 7L, Limit.of(200)))
+                .thenReturn(List.of(outboxEvent(5L, 1L), outboxEvent(6L, 3L), outboxEvent(7L, 2L)));
+
+        listener.handle("5,7");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AlbumNotificationDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher).publish(published.capture());
+        assertThat(published.getValue()).extracting(AlbumNotificationDTO::getSequence).containsExactly(5L, 6L, 7L);
+        assertThat(published.getValue()).extracting(AlbumNotificationDTO::getId).containsExactly(1L, 3L, 2L);
+        assertThat(meterRegistry.get("websocket.cluster.notifications.received").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recuperar após reconectar os eventos publicados com o LISTEN fora do ar")
+    @SuppressWarnings("unchecked")
+    void shouldCatchUpAfterReconnect() {
+        when(outboxRepository.findLastPublishSequence()).thenReturn(10L);
+        when(outboxRepository.findByPublishSequenceBetweenOrderByPublishSequenceAsc(11L, 11L, Limit.of(200)))
+                .thenReturn(List.of(outboxEvent(11L, 1L)));
+        when(outboxRepository.findByPublishSequenceBetweenOrderByPublishSequenceAsc(12L, Long.MAX_VALUE, Limit.of(200)))
+                .thenReturn(List.of(outboxEvent(12L, 2L), outboxEvent(13L, 3L)));
+        when(outboxRepository.findByPublishSequenceBetweenOrderByPublishSequenceAsc(14L, Long.MAX_VALUE, Limit.of(200)))
+                .thenReturn(List.of());
+        when(outboxRepository.findByPublishSequenceBetweenOrderByPublishSequenceAsc(14L, 15L, Limit.of(200)))
+                .thenReturn(List.of(outboxEvent(14L, 4L), outboxEvent(15L, 5L)));
+
+        listener.catchUp();
+        listener.handle("11,11");
+        // NOTIFY "12,13" perdido com a conexão caída
+        listener.catchUp();
+        // NOTIFY "14,14" também perdido; o seguinte cobre a lacuna
+        listener.handle("15,15");
+
+        ArgumentCaptor<List<AlbumNotificationDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher, times(3)).publish(published.capture());
+        assertThat(published.getAllValues()).flatExtracting(batch -> batch.stream().map(AlbumNotificationDTO::getSequence).toList())
+                .containsExactly(11L, 12L, 13L, 14L, 15L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar notificação sem payload")
+    void shouldIgnoreEmptyPayload() {
+        listener.handle("");
+
+        verify(outboxRepository, never()).findByPublishSequenceBetweenOrderByPublishSequenceAsc(any(), any(), any());
+        verify(dispatcher, never()).publish(any());
+    }
+
+    private AlbumEventOutboxEntity outboxEvent(Long sequence, Long albumId) {
+        return AlbumEventOutboxEntity.builder()
+                .sequence(sequence)
+                .publishSequence(sequence)
+                .eventType("ALBUM_CREATED")
+                .albumId(albumId)
+                .title("Album " + albumId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
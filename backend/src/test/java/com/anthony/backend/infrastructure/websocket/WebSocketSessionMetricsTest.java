@@ -0,0 +1,71 @@
+package com.anthony.backend.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebSocketSessionMetrics - Testes Unitários")
+class WebSocketSessionMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketSessionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new WebSocketSessionMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve contar sessões conectadas e remover ao desconectar")
+    void shouldTrackConnectedSessions() {
+        metrics.onConnected(connected("s1"));
+        metrics.onConnected(connected("s2"));
+        metrics.onDisconnected(disconnected("s1"));
+
+        assertThat(activeSessions()).isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.sessions.connected").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve ficar negativo com desconexões repetidas ou sem CONNECTED")
+    void shouldIgnoreRepeatedAndUnknownDisconnects() {
+        metrics.onConnected(connected("s1"));
+        metrics.onDisconnected(disconnected("s1"));
+        metrics.onDisconnected(disconnected("s1"));
+        metrics.onDisconnected(disconnected("never-connected"));
+
+        assertThat(activeSessions()).isZero();
+
+        metrics.onConnected(connected("s2"));
+        assertThat(activeSessions()).isEqualTo(1);
+    }
+
+    private double activeSessions() {
+        return meterRegistry.get("websocket.sessions.active").gauge().value();
+    }
+
+    private SessionConnectedEvent connected(String sessionId) {
+        return new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, sessionId));
+    }
+
+    private SessionDisconnectEvent disconnected(String sessionId) {
+        return new SessionDisconnectEvent(this, message(SimpMessageType.DISCONNECT, sessionId), sessionId, CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,122 @@
+package com.anthony.backend.regionais.client;
+
+import com.anthony.backend.regionais.config.RestTemplateConfig;
+import com.anthony.backend.regionais.dto.RegionaisExternasResposta;
+import com.anthony.backend.regionais.dto.RegionalExternoDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RegionaisClient - Testes com servidor stub")
+class RegionaisClientTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Mon, 05 Oct 2026 10:00:00 GMT";
+    private static final String CORPO = "[{\"id\":1,\"nome\":\"Cuiabá\"},{\"id\":2,\"nome\":\"Sinop\"}]";
+
+    private HttpServer stub;
+    private final List<String> ifNoneMatchRecebidos = new CopyOnWriteArrayList<>();
+    private final List<String> ifModifiedSinceRecebidos = new CopyOnWriteArrayList<>();
+    private volatile long atrasoMillis;
+    private RegionaisClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/v1/regionais", this::responder);
+        stub.start();
+
+        client = new RegionaisClient(
+                new RestTemplateConfig().restTemplate(Duration.ofMillis(500), Duration.ofMillis(500), 2),
+                "http://localhost:" + stub.getAddress().getPort() + "/v1/regionais");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve retornar as regionais e os validadores da resposta")
+    void shouldReturnRegionaisAndValidators() {
+        Optional<RegionaisExternasResposta> resposta = client.buscarRegionais(true);
+
+        assertThat(resposta).isPresent();
+        assertThat(resposta.get().getRegionais()).extracting(RegionalExternoDTO::getNome).containsExactly("Cuiabá", "Sinop");
+        assertThat(resposta.get().getEtag()).isEqualTo(ETAG);
+        assertThat(resposta.get().getLastModified()).isEqualTo(LAST_MODIFIED);
+        assertThat(ifNoneMatchRecebidos).containsExactly("");
+    }
+
+    @Test
+    @DisplayName("Depois de registrar a versão, a busca condicional deve receber 304")
+    void shouldSendConditionalRequestAfterRegisteringVersion() {
+        client.registrarVersao(client.buscarRegionais(true).orElseThrow());
+
+        assertThat(client.buscarRegionais(true)).isEmpty();
+        assertThat(ifNoneMatchRecebidos).containsExactly("", ETAG);
+        assertThat(ifModifiedSinceRecebidos).containsExactly("", LAST_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("Busca não condicional deve ignorar a versão registrada")
+    void shouldIgnoreVersionWhenNotConditional() {
+        client.registrarVersao(client.buscarRegionais(true).orElseThrow());
+
+        assertThat(client.buscarRegionais(false)).isPresent();
+        assertThat(ifNoneMatchRecebidos).containsExactly("", "");
+    }
+
+    @Test
+    @DisplayName("Deve falhar pelo timeout de leitura quando a API não responde")
+    void shouldFailOnReadTimeout() {
+        atrasoMillis = 2_000;
+
+        assertThatThrownBy(() -> client.buscarRegionais(true))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Erro ao buscar regionais da API externa");
+    }
+
+    private void responder(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        ifNoneMatchRecebidos.add(ifNoneMatch != null ? ifNoneMatch : "");
+        ifModifiedSinceRecebidos.add(ifModifiedSince != null ? ifModifiedSince : "");
+
+        try {
+            Thread.sleep(atrasoMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] corpo = CORPO.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, corpo.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(corpo);
+        }
+    }
+}
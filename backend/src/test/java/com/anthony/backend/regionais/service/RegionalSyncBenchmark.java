@@ -0,0 +1,129 @@
+package com.anthony.backend.regionais.service;
+
+import com.anthony.backend.regionais.client.RegionaisClient;
+import com.anthony.backend.regionais.config.RestTemplateConfig;
+import com.anthony.backend.regionais.dto.RegionalSyncResultDTO;
+import com.anthony.backend.regionais.repository.RegionalBatchRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sincronização completa de 100 mil regionais contra um servidor HTTP local (o mesmo stub de RegionaisClientTest):
+// inclui o download e o parse do JSON, o diff e os lotes JDBC. Não roda no mvn test (o nome não casa com *Test);
+// execução, com o total opcional em -Dbenchmark.regionais:
+//   mvn test -Dtest=RegionalSyncBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RegionalSyncService.class, RegionalBatchRepository.class, RegionaisClient.class, RestTemplateConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("RegionalSyncService - Benchmark com servidor stub")
+class RegionalSyncBenchmark {
+
+    private static final int TOTAL = Integer.getInteger("benchmark.regionais", 100_000);
+    private static final int RENOMEADAS = TOTAL / 10;
+    private static final int REMOVIDAS = TOTAL / 100;
+
+    private static HttpServer stub;
+    private static volatile byte[] corpo;
+
+    @Autowired
+    private RegionalSyncService regionalSyncService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        try {
+            stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        stub.createContext("/v1/regionais", RegionalSyncBenchmark::responder);
+        stub.start();
+
+        registry.add("regionais.api.url", () -> "http://localhost:" + stub.getAddress().getPort() + "/v1/regionais");
+        registry.add("regionais.http.read-timeout", () -> "60s");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("Sincronização de 100 mil regionais: carga inicial, sem mudanças e com renomeações/remoções")
+    void syncThroughput() {
+        // Com Flyway desligado o H2 não tem o índice de V8; sem ele cada UPDATE ... IN (...) da inativação varre a tabela
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_regionais_external_id ON regionais(external_id)");
+
+        // Aquecimento com um décimo do volume, descartado
+        servir(TOTAL / 10, id -> "Regional " + id);
+        regionalSyncService.sincronizarRegionais(true);
+        jdbcTemplate.update("DELETE FROM regionais");
+
+        servir(TOTAL, id -> "Regional " + id);
+        RegionalSyncResultDTO cargaInicial = medir("carga inicial", TOTAL);
+        assertThat(cargaInicial.getInseridos()).isEqualTo(TOTAL);
+
+        RegionalSyncResultDTO semMudancas = medir("sem mudanças", TOTAL);
+        assertThat(semMudancas.getInseridos() + semMudancas.getAtualizados() + semMudancas.getInativados()).isZero();
+
+        // As primeiras RENOMEADAS mudam de nome e as últimas REMOVIDAS deixam de vir da API
+        servir(TOTAL - REMOVIDAS, id -> id <= RENOMEADAS ? "Regional " + id + " - Nova" : "Regional " + id);
+        RegionalSyncResultDTO comMudancas = medir("renomeadas e removidas", TOTAL - REMOVIDAS);
+        assertThat(comMudancas.getAtualizados()).isEqualTo(RENOMEADAS);
+        assertThat(comMudancas.getInativados()).isEqualTo(REMOVIDAS);
+    }
+
+    private RegionalSyncResultDTO medir(String cenario, int linhasRecebidas) {
+        long inicio = System.nanoTime();
+        RegionalSyncResultDTO resultado = regionalSyncService.sincronizarRegionais(true);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        int escritas = resultado.getInseridos() + 2 * resultado.getAtualizados() + resultado.getInativados();
+        System.out.printf("%-24s %,8d recebidas %,8d escritas %8.0f ms %,12.0f recebidas/s %,12.0f escritas/s%n",
+                cenario, linhasRecebidas, escritas, segundos * 1000, linhasRecebidas / segundos, escritas / segundos);
+        return resultado;
+    }
+
+    private static void servir(int total, LongFunction<String> nome) {
+        StringBuilder json = new StringBuilder(total * 32).append('[');
+        for (long id = 1; id <= total; id++) {
+            if (id > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(id).append(",\"nome\":\"").append(nome.apply(id)).append("\"}");
+        }
+        corpo = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void responder(HttpExchange exchange) throws IOException {
+        byte[] resposta = corpo;
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, resposta.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(resposta);
+        }
+    }
+}
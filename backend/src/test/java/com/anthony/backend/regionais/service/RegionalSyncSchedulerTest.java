@@ -0,0 +1,52 @@
+package com.anthony.backend.regionais.service;
+
+import com.anthony.backend.domain.exception.ResourceConflictExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TriggerContext;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RegionalSyncScheduler - Testes Unitários")
+class RegionalSyncSchedulerTest {
+
+    private RegionalSyncService regionalSyncService;
+    private RegionalSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        regionalSyncService = mock(RegionalSyncService.class);
+        scheduler = new RegionalSyncScheduler(regionalSyncService,
+                Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Próxima execução deve ser o fim da anterior mais intervalo e jitter limitado")
+    void nextExecutionShouldStartFromLastCompletion() {
+        Instant ultimaConclusao = Instant.parse("2026-10-01T10:00:00Z");
+        TriggerContext context = mock(TriggerContext.class);
+        when(context.lastCompletion()).thenReturn(ultimaConclusao);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(scheduler.proximaExecucao(context))
+                    .isBetween(ultimaConclusao.plus(Duration.ofHours(1)),
+                            ultimaConclusao.plus(Duration.ofHours(1)).plus(Duration.ofMinutes(5)));
+        }
+    }
+
+    @Test
+    @DisplayName("Execução concorrente em andamento não deve propagar erro para o agendador")
+    void shouldSkipWhenSyncAlreadyRunning() {
+        when(regionalSyncService.sincronizarRegionais())
+                .thenThrow(new ResourceConflictExceptionHandler("Já existe uma sincronização de regionais em andamento"));
+
+        assertThatCode(scheduler::sincronizar).doesNotThrowAnyException();
+    }
+}
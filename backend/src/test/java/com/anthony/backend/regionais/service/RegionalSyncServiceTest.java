@@ -0,0 +1,148 @@
+package com.anthony.backend.regionais.service;
+
+import com.anthony.backend.domain.exception.ResourceConflictExceptionHandler;
+import com.anthony.backend.regionais.client.RegionaisClient;
+import com.anthony.backend.regionais.domain.Regional;
+import com.anthony.backend.regionais.dto.RegionaisExternasResposta;
+import com.anthony.backend.regionais.dto.RegionalExternoDTO;
+import com.anthony.backend.regionais.dto.RegionalSyncResultDTO;
+import com.anthony.backend.regionais.repository.RegionalBatchRepository;
+import com.anthony.backend.regionais.repository.RegionalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RegionalSyncService.class, RegionalBatchRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("RegionalSyncService - Testes com H2")
+class RegionalSyncServiceTest {
+
+    @Autowired
+    private RegionalSyncService regionalSyncService;
+
+    @Autowired
+    private RegionalRepository regionalRepository;
+
+    @MockitoBean
+    private RegionaisClient regionaisClient;
+
+    @MockitoSpyBean
+    private RegionalBatchRepository regionalBatchRepository;
+
+    @BeforeEach
+    void setUp() {
+        regionalRepository.deleteAll();
+        regionalRepository.saveAll(List.of(
+                Regional.builder().externalId(1L).nome("Cuiabá").ativo(true).build(),
+                Regional.builder().externalId(2L).nome("Várzea Grande").ativo(true).build(),
+                Regional.builder().externalId(3L).nome("Rondonópolis").ativo(true).build()));
+    }
+
+    @Test
+    @DisplayName("Deve inserir novas, versionar renomeadas e inativar ausentes")
+    void shouldApplyDiff() {
+        when(regionaisClient.buscarRegionais(true)).thenReturn(resposta(List.of(
+                new RegionalExternoDTO(1L, "Cuiabá"),
+                new RegionalExternoDTO(2L, "Várzea Grande - Centro"),
+                new RegionalExternoDTO(4L, "Sinop"))));
+
+        RegionalSyncResultDTO resultado = regionalSyncService.sincronizarRegionais();
+
+        assertThat(resultado.getInseridos()).isEqualTo(1);
+        assertThat(resultado.getAtualizados()).isEqualTo(1);
+        assertThat(resultado.getInativados()).isEqualTo(1);
+        assertThat(regionalRepository.findByAtivoTrue())
+                .extracting(Regional::getExternalId, Regional::getNome)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, "Cuiabá"),
+                        tuple(2L, "Várzea Grande - Centro"),
+                        tuple(4L, "Sinop"));
+        assertThat(regionalRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Segunda sincronização com os mesmos dados não deve alterar nada")
+    void shouldBeIdempotent() {
+        List<RegionalExternoDTO> externas = LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> new RegionalExternoDTO(id, "Regional " + id))
+                .toList();
+        when(regionaisClient.buscarRegionais(true)).thenReturn(resposta(externas));
+
+        RegionalSyncResultDTO primeira = regionalSyncService.sincronizarRegionais();
+        RegionalSyncResultDTO segunda = regionalSyncService.sincronizarRegionais();
+
+        assertThat(primeira.getInseridos()).isEqualTo(2497);
+        assertThat(primeira.getAtualizados()).isEqualTo(3);
+        assertThat(segunda.getInseridos()).isZero();
+        assertThat(segunda.getAtualizados()).isZero();
+        assertThat(segunda.getInativados()).isZero();
+        assertThat(regionalRepository.findByAtivoTrue()).hasSize(2500);
+    }
+
+    @Test
+    @DisplayName("Resposta 304 da API deve encerrar a sincronização sem tocar no banco")
+    void shouldShortCircuitWhenNotModified() {
+        when(regionaisClient.buscarRegionais(true)).thenReturn(Optional.empty());
+
+        RegionalSyncResultDTO resultado = regionalSyncService.sincronizarRegionais();
+
+        assertThat(resultado.isNaoModificado()).isTrue();
+        assertThat(regionalRepository.findByAtivoTrue()).hasSize(3);
+        verify(regionaisClient, never()).registrarVersao(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a versão da API só depois de aplicar o diff; forçar ignora a versão")
+    void shouldRegisterVersionAfterApplying() {
+        RegionaisExternasResposta resposta = resposta(List.of(new RegionalExternoDTO(1L, "Cuiabá"))).orElseThrow();
+        when(regionaisClient.buscarRegionais(false)).thenReturn(Optional.of(resposta));
+
+        RegionalSyncResultDTO resultado = regionalSyncService.sincronizarRegionais(true);
+
+        assertThat(resultado.getInativados()).isEqualTo(2);
+        verify(regionaisClient).registrarVersao(resposta);
+    }
+
+    @Test
+    @DisplayName("Não deve aplicar o diff quando outra instância segura o lock da sincronização")
+    void shouldRejectWhenAnotherInstanceHoldsLock() {
+        when(regionaisClient.buscarRegionais(true)).thenReturn(resposta(List.of(new RegionalExternoDTO(4L, "Sinop"))));
+        doReturn(false).when(regionalBatchRepository).tentarLockSincronizacao();
+
+        assertThatThrownBy(() -> regionalSyncService.sincronizarRegionais())
+                .isInstanceOf(ResourceConflictExceptionHandler.class);
+
+        assertThat(regionalRepository.findByAtivoTrue())
+                .extracting(Regional::getExternalId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(regionalBatchRepository, never()).inserirAtivas(any(), any());
+        verify(regionaisClient, never()).registrarVersao(any());
+    }
+
+    private Optional<RegionaisExternasResposta> resposta(List<RegionalExternoDTO> regionais) {
+        return Optional.of(new RegionaisExternasResposta(regionais, "\"v1\"", null));
+    }
+}
@@ -6,5 +6,7 @@ export interface AlbumResponseDto {
   size: number;
   totalElements: number;
   totalPages: number;
+  totalExact?: boolean;
+  hasNext?: boolean;
 }
 
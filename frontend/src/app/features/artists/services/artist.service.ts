@@ -90,7 +90,8 @@ export class ArtistService {
       .set('page', page.toString())
       .set('size', size.toString())
       .set('sortBy', sortBy)
-      .set('direction', direction);
+      .set('direction', direction)
+      .set('imageSize', '512');
 
     return this.http.get<AlbumResponseDto>(this.albumApiUrl, { params });
   }
@@ -1,11 +1,18 @@
 export interface AlbumNotification {
+  sequence?: number;
   id: number;
   title: string;
   artistName: string;
   artistId: number;
   message: string;
   timestamp: string;
-  type: 'ALBUM_CREATED';
+  type: 'ALBUM_CREATED' | 'ALBUM_UPDATED' | 'ALBUM_DELETED' | 'ALBUM_IMAGES_UPDATED';
   read?: boolean;
 }
 
+export interface AlbumEventsNotification {
+  type: 'ALBUM_EVENTS';
+  events: AlbumNotification[];
+  lastSequence: number;
+  timestamp: string;
+}
@@ -1,7 +1,9 @@
 import { Injectable } from '@angular/core';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { BehaviorSubject } from 'rxjs';
-import { AlbumNotification } from '../models/notification.model';
+import { AlbumEventsNotification, AlbumNotification } from '../models/notification.model';
 import type { Client, StompSubscription } from '@stomp/stompjs';
+import { environment } from '../../../environments/environment';
 
 @Injectable({
   providedIn: 'root'
@@ -16,6 +18,11 @@ export class NotificationService {
   private unreadCountSubject = new BehaviorSubject<number>(0);
   public unreadCount$ = this.unreadCountSubject.asObservable();
 
+  private readonly eventsUrl = `${environment.apiUrl}${environment.endpoints.albums}/events`;
+  private lastSequence = 0;
+
+  constructor(private http: HttpClient) {}
+
   async connect(): Promise<void> {
     if (this.client?.connected || this.client?.active) {
       console.log('WebSocket já está conectado ou conectando.');
@@ -37,6 +44,7 @@ export class NotificationService {
         onConnect: () => {
           console.log('✅ WebSocket conectado com sucesso');
           this.subscribeToAlbums();
+          this.resumeMissedEvents();
         },
         onStompError: (frame) => {
           console.warn('⚠️ STOMP error (não bloqueante):', frame);
@@ -56,14 +64,41 @@ export class NotificationService {
     if (!this.client) return;
 
     this.subscription = this.client.subscribe('/topic/albums', (message) => {
-      const notification: AlbumNotification = JSON.parse(message.body);
-      notification.read = false;
+      const payload: AlbumNotification | AlbumEventsNotification = JSON.parse(message.body);
+      // O backend agrupa rajadas de eventos em um único frame ALBUM_EVENTS
+      this.addNotifications(payload.type === 'ALBUM_EVENTS' ? payload.events : [payload]);
+    });
+  }
+
+  // Após uma reconexão, busca os eventos perdidos a partir da última sequência recebida
+  private resumeMissedEvents(): void {
+    if (this.lastSequence === 0) return;
 
-      const currentNotifications = this.notificationsSubject.value;
-      this.notificationsSubject.next([notification, ...currentNotifications]);
+    const params = new HttpParams().set('afterSequence', this.lastSequence);
+    this.http.get<AlbumNotification[]>(this.eventsUrl, { params }).subscribe({
+      next: (events) => this.addNotifications(events),
+      error: (error) => console.warn('⚠️ Não foi possível recuperar eventos perdidos:', error),
+    });
+  }
 
-      this.updateUnreadCount();
+  private addNotifications(received: AlbumNotification[]): void {
+    const currentNotifications = this.notificationsSubject.value;
+    const notifications = received
+      .filter(notification => notification.sequence === undefined
+        || !currentNotifications.some(n => n.sequence === notification.sequence))
+      .map(notification => ({ ...notification, read: false }))
+      .reverse();
+
+    received.forEach(notification => {
+      if (notification.sequence !== undefined && notification.sequence > this.lastSequence) {
+        this.lastSequence = notification.sequence;
+      }
     });
+
+    if (notifications.length === 0) return;
+
+    this.notificationsSubject.next([...notifications, ...currentNotifications]);
+    this.updateUnreadCount();
   }
 
   disconnect(): void {